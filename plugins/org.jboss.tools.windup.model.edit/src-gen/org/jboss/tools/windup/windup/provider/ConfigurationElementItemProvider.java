@@ -56,6 +56,7 @@ public class ConfigurationElementItemProvider extends ParameterizedItemProvider
 			addGenerateReportPropertyDescriptor(object);
 			addMigrationPathPropertyDescriptor(object);
 			addUserRulesDirectoriesPropertyDescriptor(object);
+			addLastRunPropertyDescriptor(object);
 		}
 		return itemPropertyDescriptors;
 	}
@@ -236,6 +237,28 @@ public class ConfigurationElementItemProvider extends ParameterizedItemProvider
 				 null));
 	}
 
+	/**
+	 * This adds a property descriptor for the Last Run feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addLastRunPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_ConfigurationElement_lastRun_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_ConfigurationElement_lastRun_feature", "_UI_ConfigurationElement_type"),
+				 WindupPackage.eINSTANCE.getConfigurationElement_LastRun(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.GENERIC_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
 	/**
 	 * This specifies how to implement {@link #getChildren} and is used to deduce an appropriate feature for an
 	 * {@link org.eclipse.emf.edit.command.AddCommand}, {@link org.eclipse.emf.edit.command.RemoveCommand} or
@@ -312,6 +335,7 @@ public class ConfigurationElementItemProvider extends ParameterizedItemProvider
 			case WindupPackage.CONFIGURATION_ELEMENT__TIMESTAMP:
 			case WindupPackage.CONFIGURATION_ELEMENT__GENERATE_REPORT:
 			case WindupPackage.CONFIGURATION_ELEMENT__USER_RULES_DIRECTORIES:
+			case WindupPackage.CONFIGURATION_ELEMENT__LAST_RUN:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
 				return;
 			case WindupPackage.CONFIGURATION_ELEMENT__INPUTS:
@@ -51,6 +51,7 @@ public class HintItemProvider extends IssueItemProvider {
 			addColumnPropertyDescriptor(object);
 			addLengthPropertyDescriptor(object);
 			addSourceSnippetPropertyDescriptor(object);
+			addOriginalLineNumberPropertyDescriptor(object);
 		}
 		return itemPropertyDescriptors;
 	}
@@ -187,6 +188,28 @@ public class HintItemProvider extends IssueItemProvider {
 				 null));
 	}
 
+	/**
+	 * This adds a property descriptor for the Original Line Number feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addOriginalLineNumberPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_Hint_originalLineNumber_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_Hint_originalLineNumber_feature", "_UI_Hint_type"),
+				 WindupPackage.eINSTANCE.getHint_OriginalLineNumber(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.INTEGRAL_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
 	/**
 	 * This returns Hint.gif.
 	 * <!-- begin-user-doc -->
@@ -231,6 +254,7 @@ public class HintItemProvider extends IssueItemProvider {
 			case WindupPackage.HINT__COLUMN:
 			case WindupPackage.HINT__LENGTH:
 			case WindupPackage.HINT__SOURCE_SNIPPET:
+			case WindupPackage.HINT__ORIGINAL_LINE_NUMBER:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
 				return;
 		}
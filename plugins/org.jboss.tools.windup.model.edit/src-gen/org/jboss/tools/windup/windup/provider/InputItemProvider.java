@@ -49,6 +49,7 @@ public class InputItemProvider extends NamedElementItemProvider {
 			super.getPropertyDescriptors(object);
 
 			addUriPropertyDescriptor(object);
+			addIdPropertyDescriptor(object);
 		}
 		return itemPropertyDescriptors;
 	}
@@ -75,6 +76,28 @@ public class InputItemProvider extends NamedElementItemProvider {
 				 null));
 	}
 
+	/**
+	 * This adds a property descriptor for the Id feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addIdPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_Input_id_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_Input_id_feature", "_UI_Input_type"),
+				 WindupPackage.eINSTANCE.getInput_Id(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.GENERIC_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
 	/**
 	 * This specifies how to implement {@link #getChildren} and is used to deduce an appropriate feature for an
 	 * {@link org.eclipse.emf.edit.command.AddCommand}, {@link org.eclipse.emf.edit.command.RemoveCommand} or
@@ -88,6 +111,7 @@ public class InputItemProvider extends NamedElementItemProvider {
 		if (childrenFeatures == null) {
 			super.getChildrenFeatures(object);
 			childrenFeatures.add(WindupPackage.eINSTANCE.getInput_WindupResult());
+			childrenFeatures.add(WindupPackage.eINSTANCE.getInput_History());
 		}
 		return childrenFeatures;
 	}
@@ -144,9 +168,11 @@ public class InputItemProvider extends NamedElementItemProvider {
 
 		switch (notification.getFeatureID(Input.class)) {
 			case WindupPackage.INPUT__URI:
+			case WindupPackage.INPUT__ID:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
 				return;
 			case WindupPackage.INPUT__WINDUP_RESULT:
+			case WindupPackage.INPUT__HISTORY:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), true, false));
 				return;
 		}
@@ -168,6 +194,34 @@ public class InputItemProvider extends NamedElementItemProvider {
 			(createChildParameter
 				(WindupPackage.eINSTANCE.getInput_WindupResult(),
 				 WindupFactory.eINSTANCE.createWindupResult()));
+
+		newChildDescriptors.add
+			(createChildParameter
+				(WindupPackage.eINSTANCE.getInput_History(),
+				 WindupFactory.eINSTANCE.createWindupResult()));
+	}
+
+	/**
+	 * This returns the label text for {@link org.eclipse.emf.edit.command.CreateChildCommand}.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public String getCreateChildText(Object owner, Object feature, Object child, Collection<?> selection) {
+		Object childFeature = feature;
+		Object childObject = child;
+
+		boolean qualify =
+			childFeature == WindupPackage.eINSTANCE.getInput_WindupResult() ||
+			childFeature == WindupPackage.eINSTANCE.getInput_History();
+
+		if (qualify) {
+			return getString
+				("_UI_CreateChild_text2",
+				 new Object[] { getTypeText(childObject), getFeatureText(childFeature), getTypeText(owner) });
+		}
+		return super.getCreateChildText(owner, feature, child, selection);
 	}
 
 }
@@ -72,6 +72,10 @@ public class IssueItemProvider
 			addGeneratedReportLocationPropertyDescriptor(object);
 			addOriginalLineSourcePropertyDescriptor(object);
 			addStalePropertyDescriptor(object);
+			addIdPropertyDescriptor(object);
+			addDeletedPropertyDescriptor(object);
+			addSharedLinksPropertyDescriptor(object);
+			addSharedQuickFixesPropertyDescriptor(object);
 		}
 		return itemPropertyDescriptors;
 	}
@@ -274,6 +278,94 @@ public class IssueItemProvider
 				 null));
 	}
 
+	/**
+	 * This adds a property descriptor for the Id feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addIdPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_Issue_id_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_Issue_id_feature", "_UI_Issue_type"),
+				 WindupPackage.eINSTANCE.getIssue_Id(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.GENERIC_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
+	/**
+	 * This adds a property descriptor for the Deleted feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addDeletedPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_Issue_deleted_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_Issue_deleted_feature", "_UI_Issue_type"),
+				 WindupPackage.eINSTANCE.getIssue_Deleted(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.BOOLEAN_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
+	/**
+	 * This adds a property descriptor for the Shared Links feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addSharedLinksPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_Issue_sharedLinks_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_Issue_sharedLinks_feature", "_UI_Issue_type"),
+				 WindupPackage.eINSTANCE.getIssue_SharedLinks(),
+				 true,
+				 false,
+				 true,
+				 null,
+				 null,
+				 null));
+	}
+
+	/**
+	 * This adds a property descriptor for the Shared Quick Fixes feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addSharedQuickFixesPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_Issue_sharedQuickFixes_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_Issue_sharedQuickFixes_feature", "_UI_Issue_type"),
+				 WindupPackage.eINSTANCE.getIssue_SharedQuickFixes(),
+				 true,
+				 false,
+				 true,
+				 null,
+				 null,
+				 null));
+	}
+
 	/**
 	 * This specifies how to implement {@link #getChildren} and is used to deduce an appropriate feature for an
 	 * {@link org.eclipse.emf.edit.command.AddCommand}, {@link org.eclipse.emf.edit.command.RemoveCommand} or
@@ -352,6 +444,8 @@ public class IssueItemProvider
 			case WindupPackage.ISSUE__GENERATED_REPORT_LOCATION:
 			case WindupPackage.ISSUE__ORIGINAL_LINE_SOURCE:
 			case WindupPackage.ISSUE__STALE:
+			case WindupPackage.ISSUE__ID:
+			case WindupPackage.ISSUE__DELETED:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
 				return;
 			case WindupPackage.ISSUE__LINKS:
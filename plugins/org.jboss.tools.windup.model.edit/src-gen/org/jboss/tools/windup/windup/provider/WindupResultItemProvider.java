@@ -66,6 +66,10 @@ public class WindupResultItemProvider
 			super.getPropertyDescriptors(object);
 
 			addExecutionResultsPropertyDescriptor(object);
+			addLastRunPropertyDescriptor(object);
+			addDeltaBasePropertyDescriptor(object);
+			addOmittedIssueKeysPropertyDescriptor(object);
+			addSharedIssueStatesPropertyDescriptor(object);
 		}
 		return itemPropertyDescriptors;
 	}
@@ -92,6 +96,94 @@ public class WindupResultItemProvider
 				 null));
 	}
 
+	/**
+	 * This adds a property descriptor for the Last Run feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addLastRunPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_WindupResult_lastRun_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_WindupResult_lastRun_feature", "_UI_WindupResult_type"),
+				 WindupPackage.eINSTANCE.getWindupResult_LastRun(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.GENERIC_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
+	/**
+	 * This adds a property descriptor for the Delta Base feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addDeltaBasePropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_WindupResult_deltaBase_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_WindupResult_deltaBase_feature", "_UI_WindupResult_type"),
+				 WindupPackage.eINSTANCE.getWindupResult_DeltaBase(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.GENERIC_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
+	/**
+	 * This adds a property descriptor for the Omitted Issue Keys feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addOmittedIssueKeysPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_WindupResult_omittedIssueKeys_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_WindupResult_omittedIssueKeys_feature", "_UI_WindupResult_type"),
+				 WindupPackage.eINSTANCE.getWindupResult_OmittedIssueKeys(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.GENERIC_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
+	/**
+	 * This adds a property descriptor for the Shared Issue States feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addSharedIssueStatesPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_WindupResult_sharedIssueStates_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_WindupResult_sharedIssueStates_feature", "_UI_WindupResult_type"),
+				 WindupPackage.eINSTANCE.getWindupResult_SharedIssueStates(),
+				 true,
+				 false,
+				 false,
+				 ItemPropertyDescriptor.GENERIC_VALUE_IMAGE,
+				 null,
+				 null));
+	}
+
 	/**
 	 * This specifies how to implement {@link #getChildren} and is used to deduce an appropriate feature for an
 	 * {@link org.eclipse.emf.edit.command.AddCommand}, {@link org.eclipse.emf.edit.command.RemoveCommand} or
@@ -105,6 +197,8 @@ public class WindupResultItemProvider
 		if (childrenFeatures == null) {
 			super.getChildrenFeatures(object);
 			childrenFeatures.add(WindupPackage.eINSTANCE.getWindupResult_Issues());
+			childrenFeatures.add(WindupPackage.eINSTANCE.getWindupResult_Links());
+			childrenFeatures.add(WindupPackage.eINSTANCE.getWindupResult_QuickFixes());
 		}
 		return childrenFeatures;
 	}
@@ -162,9 +256,15 @@ public class WindupResultItemProvider
 
 		switch (notification.getFeatureID(WindupResult.class)) {
 			case WindupPackage.WINDUP_RESULT__EXECUTION_RESULTS:
+			case WindupPackage.WINDUP_RESULT__LAST_RUN:
+			case WindupPackage.WINDUP_RESULT__DELTA_BASE:
+			case WindupPackage.WINDUP_RESULT__OMITTED_ISSUE_KEYS:
+			case WindupPackage.WINDUP_RESULT__SHARED_ISSUE_STATES:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
 				return;
 			case WindupPackage.WINDUP_RESULT__ISSUES:
+			case WindupPackage.WINDUP_RESULT__LINKS:
+			case WindupPackage.WINDUP_RESULT__QUICK_FIXES:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), true, false));
 				return;
 		}
@@ -196,6 +296,16 @@ public class WindupResultItemProvider
 			(createChildParameter
 				(WindupPackage.eINSTANCE.getWindupResult_Issues(),
 				 WindupFactory.eINSTANCE.createClassification()));
+
+		newChildDescriptors.add
+			(createChildParameter
+				(WindupPackage.eINSTANCE.getWindupResult_Links(),
+				 WindupFactory.eINSTANCE.createLink()));
+
+		newChildDescriptors.add
+			(createChildParameter
+				(WindupPackage.eINSTANCE.getWindupResult_QuickFixes(),
+				 WindupFactory.eINSTANCE.createQuickFix()));
 	}
 
 	/**
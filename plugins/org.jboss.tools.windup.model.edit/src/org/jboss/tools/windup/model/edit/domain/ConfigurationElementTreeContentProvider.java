@@ -47,7 +47,7 @@ public class ConfigurationElementTreeContentProvider extends AdapterFactoryConte
 	@Inject
 	public ConfigurationElementTreeContentProvider(ModelService modelService, AdapterFactory adapterFactory) {
 		super(adapterFactory);
-		adapterFactory.adapt(modelService.getModel(), IStructuredItemContentProvider.class);
+		modelService.getModelAsync().thenAccept(model -> adapterFactory.adapt(model, IStructuredItemContentProvider.class));
 	}
 	
 	@Inject
@@ -23,6 +23,7 @@ import org.eclipse.emf.common.util.EList;
  *   <li>{@link org.jboss.tools.windup.windup.ConfigurationElement#getMigrationPath <em>Migration Path</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.ConfigurationElement#getUserRulesDirectories <em>User Rules Directories</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.ConfigurationElement#getOptions <em>Options</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.ConfigurationElement#getLastRun <em>Last Run</em>}</li>
  * </ul>
  *
  * @see org.jboss.tools.windup.windup.WindupPackage#getConfigurationElement()
@@ -250,4 +251,30 @@ public interface ConfigurationElement extends Parameterized {
 	 */
 	EList<Pair> getOptions();
 
+	/**
+	 * Returns the value of the '<em><b>Last Run</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The time the configuration was last run, in milliseconds since the epoch, or 0 if it never ran.
+	 * Supersedes {@link #getTimestamp()}, which is only read to migrate models saved by previous versions.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Last Run</em>' attribute.
+	 * @see #setLastRun(long)
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getConfigurationElement_LastRun()
+	 * @model
+	 * @generated
+	 */
+	long getLastRun();
+
+	/**
+	 * Sets the value of the '{@link org.jboss.tools.windup.windup.ConfigurationElement#getLastRun <em>Last Run</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em>Last Run</em>' attribute.
+	 * @see #getLastRun()
+	 * @generated
+	 */
+	void setLastRun(long value);
+
 } // ConfigurationElement
@@ -18,6 +18,7 @@ package org.jboss.tools.windup.windup;
  *   <li>{@link org.jboss.tools.windup.windup.Hint#getColumn <em>Column</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.Hint#getLength <em>Length</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.Hint#getSourceSnippet <em>Source Snippet</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.Hint#getOriginalLineNumber <em>Original Line Number</em>}</li>
  * </ul>
  *
  * @see org.jboss.tools.windup.windup.WindupPackage#getHint()
@@ -181,4 +182,30 @@ public interface Hint extends Issue {
 	 */
 	void setSourceSnippet(String value);
 
+	/**
+	 * Returns the value of the '<em><b>Original Line Number</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The line Windup reported this hint at, if the hint has since been re-anchored to the
+	 * {@link #getLineNumber() line} its source moved to, and 0 otherwise.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Original Line Number</em>' attribute.
+	 * @see #setOriginalLineNumber(int)
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getHint_OriginalLineNumber()
+	 * @model
+	 * @generated
+	 */
+	int getOriginalLineNumber();
+
+	/**
+	 * Sets the value of the '{@link org.jboss.tools.windup.windup.Hint#getOriginalLineNumber <em>Original Line Number</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em>Original Line Number</em>' attribute.
+	 * @see #getOriginalLineNumber()
+	 * @generated
+	 */
+	void setOriginalLineNumber(int value);
+
 } // Hint
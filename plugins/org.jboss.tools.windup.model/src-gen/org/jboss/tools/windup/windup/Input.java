@@ -2,6 +2,7 @@
  */
 package org.jboss.tools.windup.windup;
 
+import org.eclipse.emf.common.util.EList;
 
 /**
  * <!-- begin-user-doc -->
@@ -14,6 +15,8 @@ package org.jboss.tools.windup.windup;
  * <ul>
  *   <li>{@link org.jboss.tools.windup.windup.Input#getUri <em>Uri</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.Input#getWindupResult <em>Windup Result</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.Input#getHistory <em>History</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.Input#getId <em>Id</em>}</li>
  * </ul>
  *
  * @see org.jboss.tools.windup.windup.WindupPackage#getInput()
@@ -73,4 +76,46 @@ public interface Input extends NamedElement {
 	 */
 	void setWindupResult(WindupResult value);
 
+	/**
+	 * Returns the value of the '<em><b>History</b></em>' containment reference list.
+	 * The list contents are of type {@link org.jboss.tools.windup.windup.WindupResult}.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The results of previous runs, from the most to the least recent. Each is delta-encoded
+	 * against the input's current {@link #getWindupResult() result}.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>History</em>' containment reference list.
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getInput_History()
+	 * @model containment="true" resolveProxies="true"
+	 * @generated
+	 */
+	EList<WindupResult> getHistory();
+
+	/**
+	 * Returns the value of the '<em><b>Id</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * Identifies the input for as long as it exists. Markers reference their issue through the id of its input
+	 * and the issue's id, which stays valid as the input's result is replaced by later runs.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Id</em>' attribute.
+	 * @see #setId(String)
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getInput_Id()
+	 * @model id="true"
+	 * @generated
+	 */
+	String getId();
+
+	/**
+	 * Sets the value of the '{@link org.jboss.tools.windup.windup.Input#getId <em>Id</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em>Id</em>' attribute.
+	 * @see #getId()
+	 * @generated
+	 */
+	void setId(String value);
+
 } // Input
@@ -26,6 +26,10 @@ import org.eclipse.emf.ecore.EObject;
  *   <li>{@link org.jboss.tools.windup.windup.Issue#getQuickFixes <em>Quick Fixes</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.Issue#getOriginalLineSource <em>Original Line Source</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.Issue#isStale <em>Stale</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.Issue#getId <em>Id</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.Issue#isDeleted <em>Deleted</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.Issue#getSharedLinks <em>Shared Links</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.Issue#getSharedQuickFixes <em>Shared Quick Fixes</em>}</li>
  * </ul>
  *
  * @see org.jboss.tools.windup.windup.WindupPackage#getIssue()
@@ -64,8 +68,8 @@ public interface Issue extends EObject {
 	 * The list contents are of type {@link org.jboss.tools.windup.windup.Link}.
 	 * <!-- begin-user-doc -->
 	 * <p>
-	 * If the meaning of the '<em>Links</em>' containment reference list isn't clear,
-	 * there really should be more of a description here...
+	 * Only held by results persisted before the links of a result were shared by its issues.
+	 * They are moved to the result when it is loaded, see {@link #getSharedLinks()}.
 	 * </p>
 	 * <!-- end-user-doc -->
 	 * @return the value of the '<em>Links</em>' containment reference list.
@@ -236,8 +240,8 @@ public interface Issue extends EObject {
 	 * The list contents are of type {@link org.jboss.tools.windup.windup.QuickFix}.
 	 * <!-- begin-user-doc -->
 	 * <p>
-	 * If the meaning of the '<em>Quick Fixes</em>' containment reference list isn't clear,
-	 * there really should be more of a description here...
+	 * Only held by results persisted before the quick fixes of a result were shared by its issues.
+	 * They are moved to the result when it is loaded, see {@link #getSharedQuickFixes()}.
 	 * </p>
 	 * <!-- end-user-doc -->
 	 * @return the value of the '<em>Quick Fixes</em>' containment reference list.
@@ -299,4 +303,85 @@ public interface Issue extends EObject {
 	 */
 	void setStale(boolean value);
 
+	/**
+	 * Returns the value of the '<em><b>Id</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The stable identifier of the issue. It is assigned when the issue is created, and is used as the
+	 * fragment of the issue's URI so that lookups do not depend on the issue's position in the model.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Id</em>' attribute.
+	 * @see #setId(String)
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getIssue_Id()
+	 * @model id="true"
+	 * @generated
+	 */
+	String getId();
+
+	/**
+	 * Sets the value of the '{@link org.jboss.tools.windup.windup.Issue#getId <em>Id</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em>Id</em>' attribute.
+	 * @see #getId()
+	 * @generated
+	 */
+	void setId(String value);
+
+	/**
+	 * Returns the value of the '<em><b>Deleted</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * Whether the user deleted the issue's marker. The markers of deleted issues are not created again.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Deleted</em>' attribute.
+	 * @see #setDeleted(boolean)
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getIssue_Deleted()
+	 * @model
+	 * @generated
+	 */
+	boolean isDeleted();
+
+	/**
+	 * Sets the value of the '{@link org.jboss.tools.windup.windup.Issue#isDeleted <em>Deleted</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em>Deleted</em>' attribute.
+	 * @see #isDeleted()
+	 * @generated
+	 */
+	void setDeleted(boolean value);
+
+	/**
+	 * Returns the value of the '<em><b>Shared Links</b></em>' reference list.
+	 * The list contents are of type {@link org.jboss.tools.windup.windup.Link}.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The links of this issue, held by the {@link WindupResult#getLinks() result} containing the issue.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Shared Links</em>' reference list.
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getIssue_SharedLinks()
+	 * @model resolveProxies="false"
+	 * @generated
+	 */
+	EList<Link> getSharedLinks();
+
+	/**
+	 * Returns the value of the '<em><b>Shared Quick Fixes</b></em>' reference list.
+	 * The list contents are of type {@link org.jboss.tools.windup.windup.QuickFix}.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The quick fixes of this issue, held by the {@link WindupResult#getQuickFixes() result} containing the issue.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Shared Quick Fixes</em>' reference list.
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getIssue_SharedQuickFixes()
+	 * @model resolveProxies="false"
+	 * @generated
+	 */
+	EList<QuickFix> getSharedQuickFixes();
+
 } // Issue
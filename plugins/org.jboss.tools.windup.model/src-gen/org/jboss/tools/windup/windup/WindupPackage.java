@@ -277,6 +277,15 @@ public interface WindupPackage extends EPackage {
 	 */
 	int CONFIGURATION_ELEMENT__OPTIONS = PARAMETERIZED_FEATURE_COUNT + 9;
 
+	/**
+	 * The feature id for the '<em><b>Last Run</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int CONFIGURATION_ELEMENT__LAST_RUN = PARAMETERIZED_FEATURE_COUNT + 10;
+
 	/**
 	 * The number of structural features of the '<em>Configuration Element</em>' class.
 	 * <!-- begin-user-doc -->
@@ -284,7 +293,7 @@ public interface WindupPackage extends EPackage {
 	 * @generated
 	 * @ordered
 	 */
-	int CONFIGURATION_ELEMENT_FEATURE_COUNT = PARAMETERIZED_FEATURE_COUNT + 10;
+	int CONFIGURATION_ELEMENT_FEATURE_COUNT = PARAMETERIZED_FEATURE_COUNT + 11;
 
 	/**
 	 * The operation id for the '<em>Validate</em>' operation.
@@ -451,6 +460,24 @@ public interface WindupPackage extends EPackage {
 	 */
 	int INPUT__WINDUP_RESULT = NAMED_ELEMENT_FEATURE_COUNT + 1;
 
+	/**
+	 * The feature id for the '<em><b>History</b></em>' containment reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int INPUT__HISTORY = NAMED_ELEMENT_FEATURE_COUNT + 2;
+
+	/**
+	 * The feature id for the '<em><b>Id</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int INPUT__ID = NAMED_ELEMENT_FEATURE_COUNT + 3;
+
 	/**
 	 * The number of structural features of the '<em>Input</em>' class.
 	 * <!-- begin-user-doc -->
@@ -458,7 +485,7 @@ public interface WindupPackage extends EPackage {
 	 * @generated
 	 * @ordered
 	 */
-	int INPUT_FEATURE_COUNT = NAMED_ELEMENT_FEATURE_COUNT + 2;
+	int INPUT_FEATURE_COUNT = NAMED_ELEMENT_FEATURE_COUNT + 4;
 
 	/**
 	 * The operation id for the '<em>Validate</em>' operation.
@@ -506,6 +533,60 @@ public interface WindupPackage extends EPackage {
 	 */
 	int WINDUP_RESULT__ISSUES = 1;
 
+	/**
+	 * The feature id for the '<em><b>Last Run</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int WINDUP_RESULT__LAST_RUN = 2;
+
+	/**
+	 * The feature id for the '<em><b>Delta Base</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int WINDUP_RESULT__DELTA_BASE = 3;
+
+	/**
+	 * The feature id for the '<em><b>Omitted Issue Keys</b></em>' attribute list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int WINDUP_RESULT__OMITTED_ISSUE_KEYS = 4;
+
+	/**
+	 * The feature id for the '<em><b>Links</b></em>' containment reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int WINDUP_RESULT__LINKS = 5;
+
+	/**
+	 * The feature id for the '<em><b>Quick Fixes</b></em>' containment reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int WINDUP_RESULT__QUICK_FIXES = 6;
+
+	/**
+	 * The feature id for the '<em><b>Shared Issue States</b></em>' attribute list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int WINDUP_RESULT__SHARED_ISSUE_STATES = 7;
+
 	/**
 	 * The number of structural features of the '<em>Result</em>' class.
 	 * <!-- begin-user-doc -->
@@ -513,7 +594,7 @@ public interface WindupPackage extends EPackage {
 	 * @generated
 	 * @ordered
 	 */
-	int WINDUP_RESULT_FEATURE_COUNT = 2;
+	int WINDUP_RESULT_FEATURE_COUNT = 8;
 
 	/**
 	 * The number of operations of the '<em>Result</em>' class.
@@ -633,6 +714,42 @@ public interface WindupPackage extends EPackage {
 	 */
 	int ISSUE__STALE = 10;
 
+	/**
+	 * The feature id for the '<em><b>Id</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int ISSUE__ID = 11;
+
+	/**
+	 * The feature id for the '<em><b>Deleted</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int ISSUE__DELETED = 12;
+
+	/**
+	 * The feature id for the '<em><b>Shared Links</b></em>' reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int ISSUE__SHARED_LINKS = 13;
+
+	/**
+	 * The feature id for the '<em><b>Shared Quick Fixes</b></em>' reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int ISSUE__SHARED_QUICK_FIXES = 14;
+
 	/**
 	 * The number of structural features of the '<em>Issue</em>' class.
 	 * <!-- begin-user-doc -->
@@ -640,7 +757,7 @@ public interface WindupPackage extends EPackage {
 	 * @generated
 	 * @ordered
 	 */
-	int ISSUE_FEATURE_COUNT = 11;
+	int ISSUE_FEATURE_COUNT = 15;
 
 	/**
 	 * The number of operations of the '<em>Issue</em>' class.
@@ -760,6 +877,42 @@ public interface WindupPackage extends EPackage {
 	 */
 	int HINT__STALE = ISSUE__STALE;
 
+	/**
+	 * The feature id for the '<em><b>Id</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int HINT__ID = ISSUE__ID;
+
+	/**
+	 * The feature id for the '<em><b>Deleted</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int HINT__DELETED = ISSUE__DELETED;
+
+	/**
+	 * The feature id for the '<em><b>Shared Links</b></em>' reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int HINT__SHARED_LINKS = ISSUE__SHARED_LINKS;
+
+	/**
+	 * The feature id for the '<em><b>Shared Quick Fixes</b></em>' reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int HINT__SHARED_QUICK_FIXES = ISSUE__SHARED_QUICK_FIXES;
+
 	/**
 	 * The feature id for the '<em><b>Title</b></em>' attribute.
 	 * <!-- begin-user-doc -->
@@ -814,6 +967,15 @@ public interface WindupPackage extends EPackage {
 	 */
 	int HINT__SOURCE_SNIPPET = ISSUE_FEATURE_COUNT + 5;
 
+	/**
+	 * The feature id for the '<em><b>Original Line Number</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int HINT__ORIGINAL_LINE_NUMBER = ISSUE_FEATURE_COUNT + 6;
+
 	/**
 	 * The number of structural features of the '<em>Hint</em>' class.
 	 * <!-- begin-user-doc -->
@@ -821,7 +983,7 @@ public interface WindupPackage extends EPackage {
 	 * @generated
 	 * @ordered
 	 */
-	int HINT_FEATURE_COUNT = ISSUE_FEATURE_COUNT + 6;
+	int HINT_FEATURE_COUNT = ISSUE_FEATURE_COUNT + 7;
 
 	/**
 	 * The number of operations of the '<em>Hint</em>' class.
@@ -941,6 +1103,42 @@ public interface WindupPackage extends EPackage {
 	 */
 	int CLASSIFICATION__STALE = ISSUE__STALE;
 
+	/**
+	 * The feature id for the '<em><b>Id</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int CLASSIFICATION__ID = ISSUE__ID;
+
+	/**
+	 * The feature id for the '<em><b>Deleted</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int CLASSIFICATION__DELETED = ISSUE__DELETED;
+
+	/**
+	 * The feature id for the '<em><b>Shared Links</b></em>' reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int CLASSIFICATION__SHARED_LINKS = ISSUE__SHARED_LINKS;
+
+	/**
+	 * The feature id for the '<em><b>Shared Quick Fixes</b></em>' reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int CLASSIFICATION__SHARED_QUICK_FIXES = ISSUE__SHARED_QUICK_FIXES;
+
 	/**
 	 * The feature id for the '<em><b>Classification</b></em>' attribute.
 	 * <!-- begin-user-doc -->
@@ -1469,6 +1667,17 @@ public interface WindupPackage extends EPackage {
 	 */
 	EReference getConfigurationElement_Options();
 
+	/**
+	 * Returns the meta object for the attribute '{@link org.jboss.tools.windup.windup.ConfigurationElement#getLastRun <em>Last Run</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em>Last Run</em>'.
+	 * @see org.jboss.tools.windup.windup.ConfigurationElement#getLastRun()
+	 * @see #getConfigurationElement()
+	 * @generated
+	 */
+	EAttribute getConfigurationElement_LastRun();
+
 	/**
 	 * Returns the meta object for class '{@link org.jboss.tools.windup.windup.Parameter <em>Parameter</em>}'.
 	 * <!-- begin-user-doc -->
@@ -1586,6 +1795,28 @@ public interface WindupPackage extends EPackage {
 	 */
 	EReference getInput_WindupResult();
 
+	/**
+	 * Returns the meta object for the containment reference list '{@link org.jboss.tools.windup.windup.Input#getHistory <em>History</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the containment reference list '<em>History</em>'.
+	 * @see org.jboss.tools.windup.windup.Input#getHistory()
+	 * @see #getInput()
+	 * @generated
+	 */
+	EReference getInput_History();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.jboss.tools.windup.windup.Input#getId <em>Id</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em>Id</em>'.
+	 * @see org.jboss.tools.windup.windup.Input#getId()
+	 * @see #getInput()
+	 * @generated
+	 */
+	EAttribute getInput_Id();
+
 	/**
 	 * Returns the meta object for class '{@link org.jboss.tools.windup.windup.WindupResult <em>Result</em>}'.
 	 * <!-- begin-user-doc -->
@@ -1618,6 +1849,72 @@ public interface WindupPackage extends EPackage {
 	 */
 	EReference getWindupResult_Issues();
 
+	/**
+	 * Returns the meta object for the attribute '{@link org.jboss.tools.windup.windup.WindupResult#getLastRun <em>Last Run</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em>Last Run</em>'.
+	 * @see org.jboss.tools.windup.windup.WindupResult#getLastRun()
+	 * @see #getWindupResult()
+	 * @generated
+	 */
+	EAttribute getWindupResult_LastRun();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.jboss.tools.windup.windup.WindupResult#getDeltaBase <em>Delta Base</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em>Delta Base</em>'.
+	 * @see org.jboss.tools.windup.windup.WindupResult#getDeltaBase()
+	 * @see #getWindupResult()
+	 * @generated
+	 */
+	EAttribute getWindupResult_DeltaBase();
+
+	/**
+	 * Returns the meta object for the attribute list '{@link org.jboss.tools.windup.windup.WindupResult#getOmittedIssueKeys <em>Omitted Issue Keys</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute list '<em>Omitted Issue Keys</em>'.
+	 * @see org.jboss.tools.windup.windup.WindupResult#getOmittedIssueKeys()
+	 * @see #getWindupResult()
+	 * @generated
+	 */
+	EAttribute getWindupResult_OmittedIssueKeys();
+
+	/**
+	 * Returns the meta object for the containment reference list '{@link org.jboss.tools.windup.windup.WindupResult#getLinks <em>Links</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the containment reference list '<em>Links</em>'.
+	 * @see org.jboss.tools.windup.windup.WindupResult#getLinks()
+	 * @see #getWindupResult()
+	 * @generated
+	 */
+	EReference getWindupResult_Links();
+
+	/**
+	 * Returns the meta object for the containment reference list '{@link org.jboss.tools.windup.windup.WindupResult#getQuickFixes <em>Quick Fixes</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the containment reference list '<em>Quick Fixes</em>'.
+	 * @see org.jboss.tools.windup.windup.WindupResult#getQuickFixes()
+	 * @see #getWindupResult()
+	 * @generated
+	 */
+	EReference getWindupResult_QuickFixes();
+
+	/**
+	 * Returns the meta object for the attribute list '{@link org.jboss.tools.windup.windup.WindupResult#getSharedIssueStates <em>Shared Issue States</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute list '<em>Shared Issue States</em>'.
+	 * @see org.jboss.tools.windup.windup.WindupResult#getSharedIssueStates()
+	 * @see #getWindupResult()
+	 * @generated
+	 */
+	EAttribute getWindupResult_SharedIssueStates();
+
 	/**
 	 * Returns the meta object for class '{@link org.jboss.tools.windup.windup.Issue <em>Issue</em>}'.
 	 * <!-- begin-user-doc -->
@@ -1749,6 +2046,50 @@ public interface WindupPackage extends EPackage {
 	 */
 	EAttribute getIssue_Stale();
 
+	/**
+	 * Returns the meta object for the attribute '{@link org.jboss.tools.windup.windup.Issue#getId <em>Id</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em>Id</em>'.
+	 * @see org.jboss.tools.windup.windup.Issue#getId()
+	 * @see #getIssue()
+	 * @generated
+	 */
+	EAttribute getIssue_Id();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.jboss.tools.windup.windup.Issue#isDeleted <em>Deleted</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em>Deleted</em>'.
+	 * @see org.jboss.tools.windup.windup.Issue#isDeleted()
+	 * @see #getIssue()
+	 * @generated
+	 */
+	EAttribute getIssue_Deleted();
+
+	/**
+	 * Returns the meta object for the reference list '{@link org.jboss.tools.windup.windup.Issue#getSharedLinks <em>Shared Links</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the reference list '<em>Shared Links</em>'.
+	 * @see org.jboss.tools.windup.windup.Issue#getSharedLinks()
+	 * @see #getIssue()
+	 * @generated
+	 */
+	EReference getIssue_SharedLinks();
+
+	/**
+	 * Returns the meta object for the reference list '{@link org.jboss.tools.windup.windup.Issue#getSharedQuickFixes <em>Shared Quick Fixes</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the reference list '<em>Shared Quick Fixes</em>'.
+	 * @see org.jboss.tools.windup.windup.Issue#getSharedQuickFixes()
+	 * @see #getIssue()
+	 * @generated
+	 */
+	EReference getIssue_SharedQuickFixes();
+
 	/**
 	 * Returns the meta object for class '{@link org.jboss.tools.windup.windup.Hint <em>Hint</em>}'.
 	 * <!-- begin-user-doc -->
@@ -1825,6 +2166,17 @@ public interface WindupPackage extends EPackage {
 	 */
 	EAttribute getHint_SourceSnippet();
 
+	/**
+	 * Returns the meta object for the attribute '{@link org.jboss.tools.windup.windup.Hint#getOriginalLineNumber <em>Original Line Number</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em>Original Line Number</em>'.
+	 * @see org.jboss.tools.windup.windup.Hint#getOriginalLineNumber()
+	 * @see #getHint()
+	 * @generated
+	 */
+	EAttribute getHint_OriginalLineNumber();
+
 	/**
 	 * Returns the meta object for class '{@link org.jboss.tools.windup.windup.Classification <em>Classification</em>}'.
 	 * <!-- begin-user-doc -->
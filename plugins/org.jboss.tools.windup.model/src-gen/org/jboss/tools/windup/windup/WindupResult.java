@@ -19,6 +19,12 @@ import org.jboss.windup.tooling.ExecutionResults;
  * <ul>
  *   <li>{@link org.jboss.tools.windup.windup.WindupResult#getExecutionResults <em>Execution Results</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.WindupResult#getIssues <em>Issues</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.WindupResult#getLastRun <em>Last Run</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.WindupResult#getDeltaBase <em>Delta Base</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.WindupResult#getOmittedIssueKeys <em>Omitted Issue Keys</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.WindupResult#getLinks <em>Links</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.WindupResult#getQuickFixes <em>Quick Fixes</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.WindupResult#getSharedIssueStates <em>Shared Issue States</em>}</li>
  * </ul>
  *
  * @see org.jboss.tools.windup.windup.WindupPackage#getWindupResult()
@@ -68,4 +74,119 @@ public interface WindupResult extends EObject {
 	 */
 	EList<Issue> getIssues();
 
+	/**
+	 * Returns the value of the '<em><b>Last Run</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The time of the run that produced this result, in milliseconds since the epoch.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Last Run</em>' attribute.
+	 * @see #setLastRun(long)
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getWindupResult_LastRun()
+	 * @model
+	 * @generated
+	 */
+	long getLastRun();
+
+	/**
+	 * Sets the value of the '{@link org.jboss.tools.windup.windup.WindupResult#getLastRun <em>Last Run</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em>Last Run</em>' attribute.
+	 * @see #getLastRun()
+	 * @generated
+	 */
+	void setLastRun(long value);
+
+	/**
+	 * Returns the value of the '<em><b>Delta Base</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * For a result kept in an input's history, the {@link #getLastRun() run} of the result it is delta-encoded
+	 * against, or 0 if the result holds all of its issues. A delta-encoded result only holds the issues
+	 * that are not part of its base, and lists the keys of the base's issues it did not report.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Delta Base</em>' attribute.
+	 * @see #setDeltaBase(long)
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getWindupResult_DeltaBase()
+	 * @model
+	 * @generated
+	 */
+	long getDeltaBase();
+
+	/**
+	 * Sets the value of the '{@link org.jboss.tools.windup.windup.WindupResult#getDeltaBase <em>Delta Base</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em>Delta Base</em>' attribute.
+	 * @see #getDeltaBase()
+	 * @generated
+	 */
+	void setDeltaBase(long value);
+
+	/**
+	 * Returns the value of the '<em><b>Omitted Issue Keys</b></em>' attribute list.
+	 * The list contents are of type {@link java.lang.String}.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The keys of the issues of the {@link #getDeltaBase() base} result that this result did not report.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Omitted Issue Keys</em>' attribute list.
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getWindupResult_OmittedIssueKeys()
+	 * @model unique="false"
+	 * @generated
+	 */
+	EList<String> getOmittedIssueKeys();
+
+	/**
+	 * Returns the value of the '<em><b>Links</b></em>' containment reference list.
+	 * The list contents are of type {@link org.jboss.tools.windup.windup.Link}.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The links referenced by the issues of this result. Each distinct link is held once, and shared by
+	 * all the issues carrying it.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Links</em>' containment reference list.
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getWindupResult_Links()
+	 * @model containment="true" resolveProxies="true"
+	 * @generated
+	 */
+	EList<Link> getLinks();
+
+	/**
+	 * Returns the value of the '<em><b>Quick Fixes</b></em>' containment reference list.
+	 * The list contents are of type {@link org.jboss.tools.windup.windup.QuickFix}.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The quick fixes referenced by the issues of this result. Each distinct quick fix is held once, and shared by
+	 * all the issues carrying it.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Quick Fixes</em>' containment reference list.
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getWindupResult_QuickFixes()
+	 * @model containment="true" resolveProxies="true"
+	 * @generated
+	 */
+	EList<QuickFix> getQuickFixes();
+
+	/**
+	 * Returns the value of the '<em><b>Shared Issue States</b></em>' attribute list.
+	 * The list contents are of type {@link java.lang.String}.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * The lines and states this result reported for the issues it shares with the {@link #getDeltaBase() base}
+	 * result, where they differ from those the base result's issues were reported with.
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Shared Issue States</em>' attribute list.
+	 * @see org.jboss.tools.windup.windup.WindupPackage#getWindupResult_SharedIssueStates()
+	 * @model unique="false"
+	 * @generated
+	 */
+	EList<String> getSharedIssueStates();
+
 } // WindupResult
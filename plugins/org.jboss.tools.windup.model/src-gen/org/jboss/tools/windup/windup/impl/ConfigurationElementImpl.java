@@ -42,6 +42,7 @@ import org.jboss.tools.windup.windup.WindupPackage;
  *   <li>{@link org.jboss.tools.windup.windup.impl.ConfigurationElementImpl#getMigrationPath <em>Migration Path</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.impl.ConfigurationElementImpl#getUserRulesDirectories <em>User Rules Directories</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.impl.ConfigurationElementImpl#getOptions <em>Options</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.ConfigurationElementImpl#getLastRun <em>Last Run</em>}</li>
  * </ul>
  *
  * @generated
@@ -197,6 +198,26 @@ public class ConfigurationElementImpl extends ParameterizedImpl implements Confi
 	 */
 	protected EList<Pair> options;
 
+	/**
+	 * The default value of the '{@link #getLastRun() <em>Last Run</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getLastRun()
+	 * @generated
+	 * @ordered
+	 */
+	protected static final long LAST_RUN_EDEFAULT = 0L;
+
+	/**
+	 * The cached value of the '{@link #getLastRun() <em>Last Run</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getLastRun()
+	 * @generated
+	 * @ordered
+	 */
+	protected long lastRun = LAST_RUN_EDEFAULT;
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -407,6 +428,27 @@ public class ConfigurationElementImpl extends ParameterizedImpl implements Confi
 		return options;
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public long getLastRun() {
+		return lastRun;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public void setLastRun(long newLastRun) {
+		long oldLastRun = lastRun;
+		lastRun = newLastRun;
+		if (eNotificationRequired())
+			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.CONFIGURATION_ELEMENT__LAST_RUN, oldLastRun, lastRun));
+	}
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -452,6 +494,8 @@ public class ConfigurationElementImpl extends ParameterizedImpl implements Confi
 				return getUserRulesDirectories();
 			case WindupPackage.CONFIGURATION_ELEMENT__OPTIONS:
 				return getOptions();
+			case WindupPackage.CONFIGURATION_ELEMENT__LAST_RUN:
+				return getLastRun();
 		}
 		return super.eGet(featureID, resolve, coreType);
 	}
@@ -499,6 +543,9 @@ public class ConfigurationElementImpl extends ParameterizedImpl implements Confi
 				getOptions().clear();
 				getOptions().addAll((Collection<? extends Pair>)newValue);
 				return;
+			case WindupPackage.CONFIGURATION_ELEMENT__LAST_RUN:
+				setLastRun((Long)newValue);
+				return;
 		}
 		super.eSet(featureID, newValue);
 	}
@@ -541,6 +588,9 @@ public class ConfigurationElementImpl extends ParameterizedImpl implements Confi
 			case WindupPackage.CONFIGURATION_ELEMENT__OPTIONS:
 				getOptions().clear();
 				return;
+			case WindupPackage.CONFIGURATION_ELEMENT__LAST_RUN:
+				setLastRun(LAST_RUN_EDEFAULT);
+				return;
 		}
 		super.eUnset(featureID);
 	}
@@ -573,6 +623,8 @@ public class ConfigurationElementImpl extends ParameterizedImpl implements Confi
 				return userRulesDirectories != null && !userRulesDirectories.isEmpty();
 			case WindupPackage.CONFIGURATION_ELEMENT__OPTIONS:
 				return options != null && !options.isEmpty();
+			case WindupPackage.CONFIGURATION_ELEMENT__LAST_RUN:
+				return lastRun != LAST_RUN_EDEFAULT;
 		}
 		return super.eIsSet(featureID);
 	}
@@ -601,6 +653,8 @@ public class ConfigurationElementImpl extends ParameterizedImpl implements Confi
 		result.append(generateReport);
 		result.append(", userRulesDirectories: ");
 		result.append(userRulesDirectories);
+		result.append(", lastRun: ");
+		result.append(lastRun);
 		result.append(')');
 		return result.toString();
 	}
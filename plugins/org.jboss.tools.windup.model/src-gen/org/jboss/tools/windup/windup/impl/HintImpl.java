@@ -25,6 +25,7 @@ import org.jboss.tools.windup.windup.WindupPackage;
  *   <li>{@link org.jboss.tools.windup.windup.impl.HintImpl#getColumn <em>Column</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.impl.HintImpl#getLength <em>Length</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.impl.HintImpl#getSourceSnippet <em>Source Snippet</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.HintImpl#getOriginalLineNumber <em>Original Line Number</em>}</li>
  * </ul>
  *
  * @generated
@@ -150,6 +151,26 @@ public class HintImpl extends IssueImpl implements Hint {
 	 */
 	protected String sourceSnippet = SOURCE_SNIPPET_EDEFAULT;
 
+	/**
+	 * The default value of the '{@link #getOriginalLineNumber() <em>Original Line Number</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getOriginalLineNumber()
+	 * @generated
+	 * @ordered
+	 */
+	protected static final int ORIGINAL_LINE_NUMBER_EDEFAULT = 0;
+
+	/**
+	 * The cached value of the '{@link #getOriginalLineNumber() <em>Original Line Number</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getOriginalLineNumber()
+	 * @generated
+	 * @ordered
+	 */
+	protected int originalLineNumber = ORIGINAL_LINE_NUMBER_EDEFAULT;
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -295,6 +316,27 @@ public class HintImpl extends IssueImpl implements Hint {
 			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.HINT__SOURCE_SNIPPET, oldSourceSnippet, sourceSnippet));
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public int getOriginalLineNumber() {
+		return originalLineNumber;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public void setOriginalLineNumber(int newOriginalLineNumber) {
+		int oldOriginalLineNumber = originalLineNumber;
+		originalLineNumber = newOriginalLineNumber;
+		if (eNotificationRequired())
+			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.HINT__ORIGINAL_LINE_NUMBER, oldOriginalLineNumber, originalLineNumber));
+	}
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -315,6 +357,8 @@ public class HintImpl extends IssueImpl implements Hint {
 				return getLength();
 			case WindupPackage.HINT__SOURCE_SNIPPET:
 				return getSourceSnippet();
+			case WindupPackage.HINT__ORIGINAL_LINE_NUMBER:
+				return getOriginalLineNumber();
 		}
 		return super.eGet(featureID, resolve, coreType);
 	}
@@ -345,6 +389,9 @@ public class HintImpl extends IssueImpl implements Hint {
 			case WindupPackage.HINT__SOURCE_SNIPPET:
 				setSourceSnippet((String)newValue);
 				return;
+			case WindupPackage.HINT__ORIGINAL_LINE_NUMBER:
+				setOriginalLineNumber((Integer)newValue);
+				return;
 		}
 		super.eSet(featureID, newValue);
 	}
@@ -375,6 +422,9 @@ public class HintImpl extends IssueImpl implements Hint {
 			case WindupPackage.HINT__SOURCE_SNIPPET:
 				setSourceSnippet(SOURCE_SNIPPET_EDEFAULT);
 				return;
+			case WindupPackage.HINT__ORIGINAL_LINE_NUMBER:
+				setOriginalLineNumber(ORIGINAL_LINE_NUMBER_EDEFAULT);
+				return;
 		}
 		super.eUnset(featureID);
 	}
@@ -399,6 +449,8 @@ public class HintImpl extends IssueImpl implements Hint {
 				return length != LENGTH_EDEFAULT;
 			case WindupPackage.HINT__SOURCE_SNIPPET:
 				return SOURCE_SNIPPET_EDEFAULT == null ? sourceSnippet != null : !SOURCE_SNIPPET_EDEFAULT.equals(sourceSnippet);
+			case WindupPackage.HINT__ORIGINAL_LINE_NUMBER:
+				return originalLineNumber != ORIGINAL_LINE_NUMBER_EDEFAULT;
 		}
 		return super.eIsSet(featureID);
 	}
@@ -425,6 +477,8 @@ public class HintImpl extends IssueImpl implements Hint {
 		result.append(length);
 		result.append(", sourceSnippet: ");
 		result.append(sourceSnippet);
+		result.append(", originalLineNumber: ");
+		result.append(originalLineNumber);
 		result.append(')');
 		return result.toString();
 	}
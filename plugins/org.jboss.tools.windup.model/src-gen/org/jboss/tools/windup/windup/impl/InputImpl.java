@@ -2,14 +2,21 @@
  */
 package org.jboss.tools.windup.windup.impl;
 
+import java.util.Collection;
+
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 
+import org.eclipse.emf.common.util.EList;
+
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 
+import org.eclipse.emf.ecore.util.EObjectContainmentEList;
+import org.eclipse.emf.ecore.util.InternalEList;
+
 import org.jboss.tools.windup.windup.Input;
 import org.jboss.tools.windup.windup.WindupPackage;
 import org.jboss.tools.windup.windup.WindupResult;
@@ -24,6 +31,8 @@ import org.jboss.tools.windup.windup.WindupResult;
  * <ul>
  *   <li>{@link org.jboss.tools.windup.windup.impl.InputImpl#getUri <em>Uri</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.impl.InputImpl#getWindupResult <em>Windup Result</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.InputImpl#getHistory <em>History</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.InputImpl#getId <em>Id</em>}</li>
  * </ul>
  *
  * @generated
@@ -59,6 +68,36 @@ public class InputImpl extends NamedElementImpl implements Input {
 	 */
 	protected WindupResult windupResult;
 
+	/**
+	 * The cached value of the '{@link #getHistory() <em>History</em>}' containment reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getHistory()
+	 * @generated
+	 * @ordered
+	 */
+	protected EList<WindupResult> history;
+
+	/**
+	 * The default value of the '{@link #getId() <em>Id</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getId()
+	 * @generated
+	 * @ordered
+	 */
+	protected static final String ID_EDEFAULT = null;
+
+	/**
+	 * The cached value of the '{@link #getId() <em>Id</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getId()
+	 * @generated
+	 * @ordered
+	 */
+	protected String id = ID_EDEFAULT;
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -165,6 +204,39 @@ public class InputImpl extends NamedElementImpl implements Input {
 			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.INPUT__WINDUP_RESULT, newWindupResult, newWindupResult));
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public EList<WindupResult> getHistory() {
+		if (history == null) {
+			history = new EObjectContainmentEList.Resolving<WindupResult>(WindupResult.class, this, WindupPackage.INPUT__HISTORY);
+		}
+		return history;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public void setId(String newId) {
+		String oldId = id;
+		id = newId;
+		if (eNotificationRequired())
+			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.INPUT__ID, oldId, id));
+	}
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -175,6 +247,8 @@ public class InputImpl extends NamedElementImpl implements Input {
 		switch (featureID) {
 			case WindupPackage.INPUT__WINDUP_RESULT:
 				return basicSetWindupResult(null, msgs);
+			case WindupPackage.INPUT__HISTORY:
+				return ((InternalEList<?>)getHistory()).basicRemove(otherEnd, msgs);
 		}
 		return super.eInverseRemove(otherEnd, featureID, msgs);
 	}
@@ -192,6 +266,10 @@ public class InputImpl extends NamedElementImpl implements Input {
 			case WindupPackage.INPUT__WINDUP_RESULT:
 				if (resolve) return getWindupResult();
 				return basicGetWindupResult();
+			case WindupPackage.INPUT__HISTORY:
+				return getHistory();
+			case WindupPackage.INPUT__ID:
+				return getId();
 		}
 		return super.eGet(featureID, resolve, coreType);
 	}
@@ -201,6 +279,7 @@ public class InputImpl extends NamedElementImpl implements Input {
 	 * <!-- end-user-doc -->
 	 * @generated
 	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	public void eSet(int featureID, Object newValue) {
 		switch (featureID) {
@@ -210,6 +289,13 @@ public class InputImpl extends NamedElementImpl implements Input {
 			case WindupPackage.INPUT__WINDUP_RESULT:
 				setWindupResult((WindupResult)newValue);
 				return;
+			case WindupPackage.INPUT__HISTORY:
+				getHistory().clear();
+				getHistory().addAll((Collection<? extends WindupResult>)newValue);
+				return;
+			case WindupPackage.INPUT__ID:
+				setId((String)newValue);
+				return;
 		}
 		super.eSet(featureID, newValue);
 	}
@@ -228,6 +314,12 @@ public class InputImpl extends NamedElementImpl implements Input {
 			case WindupPackage.INPUT__WINDUP_RESULT:
 				setWindupResult((WindupResult)null);
 				return;
+			case WindupPackage.INPUT__HISTORY:
+				getHistory().clear();
+				return;
+			case WindupPackage.INPUT__ID:
+				setId(ID_EDEFAULT);
+				return;
 		}
 		super.eUnset(featureID);
 	}
@@ -244,6 +336,10 @@ public class InputImpl extends NamedElementImpl implements Input {
 				return URI_EDEFAULT == null ? uri != null : !URI_EDEFAULT.equals(uri);
 			case WindupPackage.INPUT__WINDUP_RESULT:
 				return windupResult != null;
+			case WindupPackage.INPUT__HISTORY:
+				return history != null && !history.isEmpty();
+			case WindupPackage.INPUT__ID:
+				return ID_EDEFAULT == null ? id != null : !ID_EDEFAULT.equals(id);
 		}
 		return super.eIsSet(featureID);
 	}
@@ -260,6 +356,8 @@ public class InputImpl extends NamedElementImpl implements Input {
 		StringBuffer result = new StringBuffer(super.toString());
 		result.append(" (uri: ");
 		result.append(uri);
+		result.append(", id: ");
+		result.append(id);
 		result.append(')');
 		return result.toString();
 	}
@@ -16,6 +16,7 @@ import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.eclipse.emf.ecore.util.EObjectContainmentEList;
+import org.eclipse.emf.ecore.util.EObjectEList;
 import org.eclipse.emf.ecore.util.InternalEList;
 
 import org.jboss.tools.windup.windup.Issue;
@@ -42,6 +43,10 @@ import org.jboss.tools.windup.windup.WindupPackage;
  *   <li>{@link org.jboss.tools.windup.windup.impl.IssueImpl#getQuickFixes <em>Quick Fixes</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.impl.IssueImpl#getOriginalLineSource <em>Original Line Source</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.impl.IssueImpl#isStale <em>Stale</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.IssueImpl#getId <em>Id</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.IssueImpl#isDeleted <em>Deleted</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.IssueImpl#getSharedLinks <em>Shared Links</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.IssueImpl#getSharedQuickFixes <em>Shared Quick Fixes</em>}</li>
  * </ul>
  *
  * @generated
@@ -247,6 +252,66 @@ public class IssueImpl extends MinimalEObjectImpl.Container implements Issue {
 	 */
 	protected boolean stale = STALE_EDEFAULT;
 
+	/**
+	 * The default value of the '{@link #getId() <em>Id</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getId()
+	 * @generated
+	 * @ordered
+	 */
+	protected static final String ID_EDEFAULT = null;
+
+	/**
+	 * The cached value of the '{@link #getId() <em>Id</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getId()
+	 * @generated
+	 * @ordered
+	 */
+	protected String id = ID_EDEFAULT;
+
+	/**
+	 * The default value of the '{@link #isDeleted() <em>Deleted</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #isDeleted()
+	 * @generated
+	 * @ordered
+	 */
+	protected static final boolean DELETED_EDEFAULT = false;
+
+	/**
+	 * The cached value of the '{@link #isDeleted() <em>Deleted</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #isDeleted()
+	 * @generated
+	 * @ordered
+	 */
+	protected boolean deleted = DELETED_EDEFAULT;
+
+	/**
+	 * The cached value of the '{@link #getSharedLinks() <em>Shared Links</em>}' reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getSharedLinks()
+	 * @generated
+	 * @ordered
+	 */
+	protected EList<Link> sharedLinks;
+
+	/**
+	 * The cached value of the '{@link #getSharedQuickFixes() <em>Shared Quick Fixes</em>}' reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getSharedQuickFixes()
+	 * @generated
+	 * @ordered
+	 */
+	protected EList<QuickFix> sharedQuickFixes;
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -479,6 +544,72 @@ public class IssueImpl extends MinimalEObjectImpl.Container implements Issue {
 			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.ISSUE__STALE, oldStale, stale));
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public void setId(String newId) {
+		String oldId = id;
+		id = newId;
+		if (eNotificationRequired())
+			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.ISSUE__ID, oldId, id));
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public boolean isDeleted() {
+		return deleted;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public void setDeleted(boolean newDeleted) {
+		boolean oldDeleted = deleted;
+		deleted = newDeleted;
+		if (eNotificationRequired())
+			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.ISSUE__DELETED, oldDeleted, deleted));
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public EList<Link> getSharedLinks() {
+		if (sharedLinks == null) {
+			sharedLinks = new EObjectEList<Link>(Link.class, this, WindupPackage.ISSUE__SHARED_LINKS);
+		}
+		return sharedLinks;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public EList<QuickFix> getSharedQuickFixes() {
+		if (sharedQuickFixes == null) {
+			sharedQuickFixes = new EObjectEList<QuickFix>(QuickFix.class, this, WindupPackage.ISSUE__SHARED_QUICK_FIXES);
+		}
+		return sharedQuickFixes;
+	}
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -525,6 +656,14 @@ public class IssueImpl extends MinimalEObjectImpl.Container implements Issue {
 				return getOriginalLineSource();
 			case WindupPackage.ISSUE__STALE:
 				return isStale();
+			case WindupPackage.ISSUE__ID:
+				return getId();
+			case WindupPackage.ISSUE__DELETED:
+				return isDeleted();
+			case WindupPackage.ISSUE__SHARED_LINKS:
+				return getSharedLinks();
+			case WindupPackage.ISSUE__SHARED_QUICK_FIXES:
+				return getSharedQuickFixes();
 		}
 		return super.eGet(featureID, resolve, coreType);
 	}
@@ -573,6 +712,20 @@ public class IssueImpl extends MinimalEObjectImpl.Container implements Issue {
 			case WindupPackage.ISSUE__STALE:
 				setStale((Boolean)newValue);
 				return;
+			case WindupPackage.ISSUE__ID:
+				setId((String)newValue);
+				return;
+			case WindupPackage.ISSUE__DELETED:
+				setDeleted((Boolean)newValue);
+				return;
+			case WindupPackage.ISSUE__SHARED_LINKS:
+				getSharedLinks().clear();
+				getSharedLinks().addAll((Collection<? extends Link>)newValue);
+				return;
+			case WindupPackage.ISSUE__SHARED_QUICK_FIXES:
+				getSharedQuickFixes().clear();
+				getSharedQuickFixes().addAll((Collection<? extends QuickFix>)newValue);
+				return;
 		}
 		super.eSet(featureID, newValue);
 	}
@@ -618,6 +771,18 @@ public class IssueImpl extends MinimalEObjectImpl.Container implements Issue {
 			case WindupPackage.ISSUE__STALE:
 				setStale(STALE_EDEFAULT);
 				return;
+			case WindupPackage.ISSUE__ID:
+				setId(ID_EDEFAULT);
+				return;
+			case WindupPackage.ISSUE__DELETED:
+				setDeleted(DELETED_EDEFAULT);
+				return;
+			case WindupPackage.ISSUE__SHARED_LINKS:
+				getSharedLinks().clear();
+				return;
+			case WindupPackage.ISSUE__SHARED_QUICK_FIXES:
+				getSharedQuickFixes().clear();
+				return;
 		}
 		super.eUnset(featureID);
 	}
@@ -652,6 +817,14 @@ public class IssueImpl extends MinimalEObjectImpl.Container implements Issue {
 				return ORIGINAL_LINE_SOURCE_EDEFAULT == null ? originalLineSource != null : !ORIGINAL_LINE_SOURCE_EDEFAULT.equals(originalLineSource);
 			case WindupPackage.ISSUE__STALE:
 				return stale != STALE_EDEFAULT;
+			case WindupPackage.ISSUE__ID:
+				return ID_EDEFAULT == null ? id != null : !ID_EDEFAULT.equals(id);
+			case WindupPackage.ISSUE__DELETED:
+				return deleted != DELETED_EDEFAULT;
+			case WindupPackage.ISSUE__SHARED_LINKS:
+				return sharedLinks != null && !sharedLinks.isEmpty();
+			case WindupPackage.ISSUE__SHARED_QUICK_FIXES:
+				return sharedQuickFixes != null && !sharedQuickFixes.isEmpty();
 		}
 		return super.eIsSet(featureID);
 	}
@@ -684,6 +857,10 @@ public class IssueImpl extends MinimalEObjectImpl.Container implements Issue {
 		result.append(originalLineSource);
 		result.append(", stale: ");
 		result.append(stale);
+		result.append(", id: ");
+		result.append(id);
+		result.append(", deleted: ");
+		result.append(deleted);
 		result.append(')');
 		return result.toString();
 	}
@@ -15,10 +15,13 @@ import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
+import org.eclipse.emf.ecore.util.EDataTypeEList;
 import org.eclipse.emf.ecore.util.EObjectContainmentEList;
 import org.eclipse.emf.ecore.util.InternalEList;
 
 import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.QuickFix;
 import org.jboss.tools.windup.windup.WindupPackage;
 import org.jboss.tools.windup.windup.WindupResult;
 
@@ -34,6 +37,12 @@ import org.jboss.windup.tooling.ExecutionResults;
  * <ul>
  *   <li>{@link org.jboss.tools.windup.windup.impl.WindupResultImpl#getExecutionResults <em>Execution Results</em>}</li>
  *   <li>{@link org.jboss.tools.windup.windup.impl.WindupResultImpl#getIssues <em>Issues</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.WindupResultImpl#getLastRun <em>Last Run</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.WindupResultImpl#getDeltaBase <em>Delta Base</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.WindupResultImpl#getOmittedIssueKeys <em>Omitted Issue Keys</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.WindupResultImpl#getLinks <em>Links</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.WindupResultImpl#getQuickFixes <em>Quick Fixes</em>}</li>
+ *   <li>{@link org.jboss.tools.windup.windup.impl.WindupResultImpl#getSharedIssueStates <em>Shared Issue States</em>}</li>
  * </ul>
  *
  * @generated
@@ -69,6 +78,86 @@ public class WindupResultImpl extends MinimalEObjectImpl.Container implements Wi
 	 */
 	protected EList<Issue> issues;
 
+	/**
+	 * The default value of the '{@link #getLastRun() <em>Last Run</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getLastRun()
+	 * @generated
+	 * @ordered
+	 */
+	protected static final long LAST_RUN_EDEFAULT = 0L;
+
+	/**
+	 * The cached value of the '{@link #getLastRun() <em>Last Run</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getLastRun()
+	 * @generated
+	 * @ordered
+	 */
+	protected long lastRun = LAST_RUN_EDEFAULT;
+
+	/**
+	 * The default value of the '{@link #getDeltaBase() <em>Delta Base</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getDeltaBase()
+	 * @generated
+	 * @ordered
+	 */
+	protected static final long DELTA_BASE_EDEFAULT = 0L;
+
+	/**
+	 * The cached value of the '{@link #getDeltaBase() <em>Delta Base</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getDeltaBase()
+	 * @generated
+	 * @ordered
+	 */
+	protected long deltaBase = DELTA_BASE_EDEFAULT;
+
+	/**
+	 * The cached value of the '{@link #getOmittedIssueKeys() <em>Omitted Issue Keys</em>}' attribute list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getOmittedIssueKeys()
+	 * @generated
+	 * @ordered
+	 */
+	protected EList<String> omittedIssueKeys;
+
+	/**
+	 * The cached value of the '{@link #getLinks() <em>Links</em>}' containment reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getLinks()
+	 * @generated
+	 * @ordered
+	 */
+	protected EList<Link> links;
+
+	/**
+	 * The cached value of the '{@link #getQuickFixes() <em>Quick Fixes</em>}' containment reference list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getQuickFixes()
+	 * @generated
+	 * @ordered
+	 */
+	protected EList<QuickFix> quickFixes;
+
+	/**
+	 * The cached value of the '{@link #getSharedIssueStates() <em>Shared Issue States</em>}' attribute list.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #getSharedIssueStates()
+	 * @generated
+	 * @ordered
+	 */
+	protected EList<String> sharedIssueStates;
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -121,6 +210,96 @@ public class WindupResultImpl extends MinimalEObjectImpl.Container implements Wi
 		return issues;
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public long getLastRun() {
+		return lastRun;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public void setLastRun(long newLastRun) {
+		long oldLastRun = lastRun;
+		lastRun = newLastRun;
+		if (eNotificationRequired())
+			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.WINDUP_RESULT__LAST_RUN, oldLastRun, lastRun));
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public long getDeltaBase() {
+		return deltaBase;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public void setDeltaBase(long newDeltaBase) {
+		long oldDeltaBase = deltaBase;
+		deltaBase = newDeltaBase;
+		if (eNotificationRequired())
+			eNotify(new ENotificationImpl(this, Notification.SET, WindupPackage.WINDUP_RESULT__DELTA_BASE, oldDeltaBase, deltaBase));
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public EList<String> getOmittedIssueKeys() {
+		if (omittedIssueKeys == null) {
+			omittedIssueKeys = new EDataTypeEList<String>(String.class, this, WindupPackage.WINDUP_RESULT__OMITTED_ISSUE_KEYS);
+		}
+		return omittedIssueKeys;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public EList<Link> getLinks() {
+		if (links == null) {
+			links = new EObjectContainmentEList.Resolving<Link>(Link.class, this, WindupPackage.WINDUP_RESULT__LINKS);
+		}
+		return links;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public EList<QuickFix> getQuickFixes() {
+		if (quickFixes == null) {
+			quickFixes = new EObjectContainmentEList.Resolving<QuickFix>(QuickFix.class, this, WindupPackage.WINDUP_RESULT__QUICK_FIXES);
+		}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	public EList<String> getSharedIssueStates() {
+		if (sharedIssueStates == null) {
+			sharedIssueStates = new EDataTypeEList<String>(String.class, this, WindupPackage.WINDUP_RESULT__SHARED_ISSUE_STATES);
+		}
+		return sharedIssueStates;
+	}
+		return quickFixes;
+	}
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -131,6 +310,10 @@ public class WindupResultImpl extends MinimalEObjectImpl.Container implements Wi
 		switch (featureID) {
 			case WindupPackage.WINDUP_RESULT__ISSUES:
 				return ((InternalEList<?>)getIssues()).basicRemove(otherEnd, msgs);
+			case WindupPackage.WINDUP_RESULT__LINKS:
+				return ((InternalEList<?>)getLinks()).basicRemove(otherEnd, msgs);
+			case WindupPackage.WINDUP_RESULT__QUICK_FIXES:
+				return ((InternalEList<?>)getQuickFixes()).basicRemove(otherEnd, msgs);
 		}
 		return super.eInverseRemove(otherEnd, featureID, msgs);
 	}
@@ -147,6 +330,18 @@ public class WindupResultImpl extends MinimalEObjectImpl.Container implements Wi
 				return getExecutionResults();
 			case WindupPackage.WINDUP_RESULT__ISSUES:
 				return getIssues();
+			case WindupPackage.WINDUP_RESULT__LAST_RUN:
+				return getLastRun();
+			case WindupPackage.WINDUP_RESULT__DELTA_BASE:
+				return getDeltaBase();
+			case WindupPackage.WINDUP_RESULT__OMITTED_ISSUE_KEYS:
+				return getOmittedIssueKeys();
+			case WindupPackage.WINDUP_RESULT__LINKS:
+				return getLinks();
+			case WindupPackage.WINDUP_RESULT__QUICK_FIXES:
+				return getQuickFixes();
+			case WindupPackage.WINDUP_RESULT__SHARED_ISSUE_STATES:
+				return getSharedIssueStates();
 		}
 		return super.eGet(featureID, resolve, coreType);
 	}
@@ -167,6 +362,28 @@ public class WindupResultImpl extends MinimalEObjectImpl.Container implements Wi
 				getIssues().clear();
 				getIssues().addAll((Collection<? extends Issue>)newValue);
 				return;
+			case WindupPackage.WINDUP_RESULT__LAST_RUN:
+				setLastRun((Long)newValue);
+				return;
+			case WindupPackage.WINDUP_RESULT__DELTA_BASE:
+				setDeltaBase((Long)newValue);
+				return;
+			case WindupPackage.WINDUP_RESULT__OMITTED_ISSUE_KEYS:
+				getOmittedIssueKeys().clear();
+				getOmittedIssueKeys().addAll((Collection<? extends String>)newValue);
+				return;
+			case WindupPackage.WINDUP_RESULT__LINKS:
+				getLinks().clear();
+				getLinks().addAll((Collection<? extends Link>)newValue);
+				return;
+			case WindupPackage.WINDUP_RESULT__QUICK_FIXES:
+				getQuickFixes().clear();
+				getQuickFixes().addAll((Collection<? extends QuickFix>)newValue);
+				return;
+			case WindupPackage.WINDUP_RESULT__SHARED_ISSUE_STATES:
+				getSharedIssueStates().clear();
+				getSharedIssueStates().addAll((Collection<? extends String>)newValue);
+				return;
 		}
 		super.eSet(featureID, newValue);
 	}
@@ -185,6 +402,24 @@ public class WindupResultImpl extends MinimalEObjectImpl.Container implements Wi
 			case WindupPackage.WINDUP_RESULT__ISSUES:
 				getIssues().clear();
 				return;
+			case WindupPackage.WINDUP_RESULT__LAST_RUN:
+				setLastRun(LAST_RUN_EDEFAULT);
+				return;
+			case WindupPackage.WINDUP_RESULT__DELTA_BASE:
+				setDeltaBase(DELTA_BASE_EDEFAULT);
+				return;
+			case WindupPackage.WINDUP_RESULT__OMITTED_ISSUE_KEYS:
+				getOmittedIssueKeys().clear();
+				return;
+			case WindupPackage.WINDUP_RESULT__LINKS:
+				getLinks().clear();
+				return;
+			case WindupPackage.WINDUP_RESULT__QUICK_FIXES:
+				getQuickFixes().clear();
+				return;
+			case WindupPackage.WINDUP_RESULT__SHARED_ISSUE_STATES:
+				getSharedIssueStates().clear();
+				return;
 		}
 		super.eUnset(featureID);
 	}
@@ -201,6 +436,18 @@ public class WindupResultImpl extends MinimalEObjectImpl.Container implements Wi
 				return EXECUTION_RESULTS_EDEFAULT == null ? executionResults != null : !EXECUTION_RESULTS_EDEFAULT.equals(executionResults);
 			case WindupPackage.WINDUP_RESULT__ISSUES:
 				return issues != null && !issues.isEmpty();
+			case WindupPackage.WINDUP_RESULT__LAST_RUN:
+				return lastRun != LAST_RUN_EDEFAULT;
+			case WindupPackage.WINDUP_RESULT__DELTA_BASE:
+				return deltaBase != DELTA_BASE_EDEFAULT;
+			case WindupPackage.WINDUP_RESULT__OMITTED_ISSUE_KEYS:
+				return omittedIssueKeys != null && !omittedIssueKeys.isEmpty();
+			case WindupPackage.WINDUP_RESULT__LINKS:
+				return links != null && !links.isEmpty();
+			case WindupPackage.WINDUP_RESULT__QUICK_FIXES:
+				return quickFixes != null && !quickFixes.isEmpty();
+			case WindupPackage.WINDUP_RESULT__SHARED_ISSUE_STATES:
+				return sharedIssueStates != null && !sharedIssueStates.isEmpty();
 		}
 		return super.eIsSet(featureID);
 	}
@@ -217,6 +464,14 @@ public class WindupResultImpl extends MinimalEObjectImpl.Container implements Wi
 		StringBuffer result = new StringBuffer(super.toString());
 		result.append(" (executionResults: ");
 		result.append(executionResults);
+		result.append(", lastRun: ");
+		result.append(lastRun);
+		result.append(", deltaBase: ");
+		result.append(deltaBase);
+		result.append(", omittedIssueKeys: ");
+		result.append(omittedIssueKeys);
+		result.append(", sharedIssueStates: ");
+		result.append(sharedIssueStates);
 		result.append(')');
 		return result.toString();
 	}
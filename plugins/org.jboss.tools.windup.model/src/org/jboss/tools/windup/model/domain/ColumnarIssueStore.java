@@ -0,0 +1,457 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.jboss.tools.windup.model.Activator;
+import org.jboss.tools.windup.model.util.PayloadPool;
+import org.jboss.tools.windup.model.util.PayloadUtil;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.QuickFix;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.windup.tooling.data.Quickfix;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * A read-only, column-oriented store for the hints of very large results.
+ *
+ * Each field is stored in its own memory-mapped column file. Strings are stored in a dictionary
+ * and referenced from the columns by index, while line, column, length, and effort are stored as
+ * primitive columns. Links and quick fixes are stored in side tables addressed through offset columns.
+ *
+ * The store holds no EMF objects. A {@link Hint} is only materialized, through {@link #materialize(int, PayloadPool)},
+ * for the rows the UI actually touches, and is then kept in its result like any other issue.
+ */
+public class ColumnarIssueStore {
+
+	/**
+	 * The id prefix of issues materialized from a store, followed by the issue's row.
+	 */
+	public static final String ROW_ID_PREFIX = "row-"; //$NON-NLS-1$
+
+	private static final String STRING_OFFSETS = "strings.idx"; //$NON-NLS-1$
+	private static final String STRING_DATA = "strings.dat"; //$NON-NLS-1$
+	private static final String LINK_OFFSETS = "links.idx"; //$NON-NLS-1$
+	private static final String LINKS = "links.col"; //$NON-NLS-1$
+	private static final String QUICK_FIX_OFFSETS = "quickfixes.idx"; //$NON-NLS-1$
+	private static final String QUICK_FIXES = "quickfixes.col"; //$NON-NLS-1$
+
+	private static final int LINK_WIDTH = 2;
+	private static final int QUICK_FIX_WIDTH = 5;
+
+	/**
+	 * The columns of the store, each stored in a file of the same name.
+	 */
+	private static enum Column {
+		PATH, SEVERITY, RULE_ID, TITLE, HINT, SOURCE_SNIPPET, ORIGINAL_LINE_SOURCE, REPORT_LOCATION,
+		LINE, COLUMN, LENGTH, EFFORT;
+
+		public String getFileName() {
+			return name().toLowerCase() + ".col"; //$NON-NLS-1$
+		}
+	}
+
+	private final File directory;
+	private final int size;
+
+	private final Map<Column, IntBuffer> columns = Maps.newEnumMap(Column.class);
+	private final IntBuffer stringOffsets;
+	private final ByteBuffer stringData;
+	private final IntBuffer linkOffsets;
+	private final IntBuffer links;
+	private final IntBuffer quickFixOffsets;
+	private final IntBuffer quickFixes;
+
+	private ColumnarIssueStore(File directory) throws IOException {
+		this.directory = directory;
+		for (Column column : Column.values()) {
+			columns.put(column, mapInts(column.getFileName()));
+		}
+		this.size = columns.get(Column.PATH).limit();
+		this.stringOffsets = mapInts(STRING_OFFSETS);
+		this.stringData = map(STRING_DATA);
+		this.linkOffsets = mapInts(LINK_OFFSETS);
+		this.links = mapInts(LINKS);
+		this.quickFixOffsets = mapInts(QUICK_FIX_OFFSETS);
+		this.quickFixes = mapInts(QUICK_FIXES);
+	}
+
+	/**
+	 * Opens the store in the specified directory, or returns null if no store exists there.
+	 */
+	public static ColumnarIssueStore open(File directory) {
+		if (!new File(directory, Column.PATH.getFileName()).exists()) {
+			return null;
+		}
+		try {
+			return new ColumnarIssueStore(directory);
+		} catch (IOException e) {
+			Activator.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Deletes the store in the specified directory.
+	 * 
+	 * @return true if the store no longer exists, false if it could not be deleted. Mapped files cannot
+	 * be deleted on some platforms until they are unmapped, so deleting the store may have to be retried.
+	 */
+	public static boolean delete(File directory) {
+		if (directory.exists()) {
+			try {
+				FileUtils.deleteDirectory(directory);
+			} catch (IOException e) {
+				Activator.log(e);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private ByteBuffer map(String fileName) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(new File(directory, fileName), "r"); //$NON-NLS-1$
+				FileChannel channel = file.getChannel()) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("ColumnarIssueStore:: File too large to be mapped: " + fileName); //$NON-NLS-1$
+			}
+			return channel.map(MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	private IntBuffer mapInts(String fileName) throws IOException {
+		return map(fileName).asIntBuffer();
+	}
+
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns the number of issues in this store.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the id of the issue materialized from the specified row.
+	 */
+	public static String getId(int row) {
+		return ROW_ID_PREFIX + row;
+	}
+
+	/**
+	 * Returns the row of the issue with the specified id, or -1 if the id does not refer to a row.
+	 */
+	public static int getRow(String id) {
+		if (id != null && id.startsWith(ROW_ID_PREFIX)) {
+			try {
+				return Integer.parseInt(id.substring(ROW_ID_PREFIX.length()));
+			} catch (NumberFormatException e) {
+				// not a row id.
+			}
+		}
+		return -1;
+	}
+
+	private String getString(Column column, int row) {
+		return getString(columns.get(column).get(row));
+	}
+
+	private int getInt(Column column, int row) {
+		return columns.get(column).get(row);
+	}
+
+	private String getString(int index) {
+		if (index < 0) {
+			return null;
+		}
+		int start = stringOffsets.get(index);
+		byte[] bytes = new byte[stringOffsets.get(index + 1) - start];
+		ByteBuffer data = stringData.duplicate();
+		data.position(start);
+		data.get(bytes);
+		return PayloadUtil.intern(new String(bytes, StandardCharsets.UTF_8));
+	}
+
+	public String getFileAbsolutePath(int row) {
+		return getString(Column.PATH, row);
+	}
+
+	public String getSeverity(int row) {
+		return getString(Column.SEVERITY, row);
+	}
+
+	public String getRuleId(int row) {
+		return getString(Column.RULE_ID, row);
+	}
+
+	public String getTitle(int row) {
+		return getString(Column.TITLE, row);
+	}
+
+	public String getHint(int row) {
+		return getString(Column.HINT, row);
+	}
+
+	public String getSourceSnippet(int row) {
+		return getString(Column.SOURCE_SNIPPET, row);
+	}
+
+	public String getOriginalLineSource(int row) {
+		return getString(Column.ORIGINAL_LINE_SOURCE, row);
+	}
+
+	public String getGeneratedReportLocation(int row) {
+		return getString(Column.REPORT_LOCATION, row);
+	}
+
+	public int getLineNumber(int row) {
+		return getInt(Column.LINE, row);
+	}
+
+	public int getColumn(int row) {
+		return getInt(Column.COLUMN, row);
+	}
+
+	public int getLength(int row) {
+		return getInt(Column.LENGTH, row);
+	}
+
+	public int getEffort(int row) {
+		return getInt(Column.EFFORT, row);
+	}
+
+	/**
+	 * Creates a detached {@link Hint} holding the content of the specified row. The hint references the
+	 * links and quick fixes of the specified pool.
+	 */
+	public Hint materialize(int row, PayloadPool pool) {
+		Hint hint = WindupFactory.eINSTANCE.createHint();
+		hint.setId(getId(row));
+		hint.setFileAbsolutePath(getFileAbsolutePath(row));
+		hint.setSeverity(getSeverity(row));
+		hint.setRuleId(getRuleId(row));
+		hint.setEffort(getEffort(row));
+		hint.setTitle(getTitle(row));
+		hint.setHint(getHint(row));
+		hint.setLineNumber(getLineNumber(row));
+		hint.setColumn(getColumn(row));
+		hint.setLength(getLength(row));
+		hint.setSourceSnippet(getSourceSnippet(row));
+		hint.setOriginalLineSource(getOriginalLineSource(row));
+		hint.setGeneratedReportLocation(getGeneratedReportLocation(row));
+		for (int i = linkOffsets.get(row); i < linkOffsets.get(row + 1); i++) {
+			hint.getSharedLinks().add(pool.getLink(getString(links.get(i * LINK_WIDTH)), getString(links.get(i * LINK_WIDTH + 1))));
+		}
+		for (int i = quickFixOffsets.get(row); i < quickFixOffsets.get(row + 1); i++) {
+			int base = i * QUICK_FIX_WIDTH;
+			hint.getSharedQuickFixes().add(pool.getQuickFix(getString(quickFixes.get(base)), getString(quickFixes.get(base + 1)), 
+					getString(quickFixes.get(base + 2)), getString(quickFixes.get(base + 3)), getString(quickFixes.get(base + 4))));
+		}
+		return hint;
+	}
+
+	/**
+	 * Writes a store, streaming each column to its own file.
+	 * 
+	 * Only the most recently used strings are remembered by the writer's dictionary, so that the writer's heap
+	 * doesn't grow with the number of distinct strings, such as source snippets, in the result. A string evicted
+	 * from the dictionary is stored again when it recurs.
+	 */
+	public static class Writer implements Closeable {
+
+		/**
+		 * Number of strings remembered by the dictionary.
+		 */
+		private static final int DICTIONARY_SIZE = Integer.getInteger("windup.columnarStoreDictionarySize", 65536); //$NON-NLS-1$
+
+		private final Map<Column, DataOutputStream> columns = Maps.newEnumMap(Column.class);
+		private final Map<String, Integer> dictionary = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+				return size() > DICTIONARY_SIZE;
+			}
+		};
+		private final List<DataOutputStream> outputs = Lists.newArrayList();
+		private final DataOutputStream stringOffsets;
+		private final DataOutputStream stringData;
+		private final DataOutputStream linkOffsets;
+		private final DataOutputStream links;
+		private final DataOutputStream quickFixOffsets;
+		private final DataOutputStream quickFixes;
+
+		private int stringSize;
+		private int stringCount;
+		private int linkCount;
+		private int quickFixCount;
+		private int size;
+
+		public Writer(File directory) throws IOException {
+			directory.mkdirs();
+			for (Column column : Column.values()) {
+				columns.put(column, open(directory, column.getFileName()));
+			}
+			stringOffsets = open(directory, STRING_OFFSETS);
+			stringData = open(directory, STRING_DATA);
+			linkOffsets = open(directory, LINK_OFFSETS);
+			links = open(directory, LINKS);
+			quickFixOffsets = open(directory, QUICK_FIX_OFFSETS);
+			quickFixes = open(directory, QUICK_FIXES);
+			stringOffsets.writeInt(0);
+			linkOffsets.writeInt(0);
+			quickFixOffsets.writeInt(0);
+		}
+
+		private DataOutputStream open(File directory, String fileName) throws IOException {
+			DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+					new FileOutputStream(new File(directory, fileName))));
+			outputs.add(output);
+			return output;
+		}
+
+		/**
+		 * Appends the specified hint, returning its row.
+		 */
+		public int add(org.jboss.windup.tooling.data.Hint hint, String path, String originalLineSource,
+				String reportLocation) throws IOException {
+			writeRow(path, hint.getIssueCategory().getCategoryID().toUpperCase(), hint.getRuleID(), hint.getTitle(), 
+					hint.getHint(), hint.getSourceSnippit(), originalLineSource, reportLocation, 
+					hint.getLineNumber(), hint.getColumn(), hint.getLength(), hint.getEffort());
+			for (org.jboss.windup.tooling.data.Link link : hint.getLinks()) {
+				writeLink(link.getDescription(), link.getUrl());
+			}
+			linkOffsets.writeInt(linkCount);
+			for (Quickfix fix : hint.getQuickfixes()) {
+				writeQuickFix(fix.getName(), fix.getType().toString(), fix.getSearch(), fix.getReplacement(), fix.getNewline());
+			}
+			quickFixOffsets.writeInt(quickFixCount);
+			return size++;
+		}
+		
+		/**
+		 * Appends the content of the specified hint of the model, returning its row. The hint's id is not stored,
+		 * the hint materialized from the row gets the row's id.
+		 */
+		public int add(Hint hint) throws IOException {
+			writeRow(hint.getFileAbsolutePath(), hint.getSeverity(), hint.getRuleId(), hint.getTitle(), hint.getHint(), 
+					hint.getSourceSnippet(), hint.getOriginalLineSource(), hint.getGeneratedReportLocation(), 
+					hint.getLineNumber(), hint.getColumn(), hint.getLength(), hint.getEffort());
+			for (Link link : hint.getSharedLinks()) {
+				writeLink(link.getDescription(), link.getUrl());
+			}
+			linkOffsets.writeInt(linkCount);
+			for (QuickFix fix : hint.getSharedQuickFixes()) {
+				writeQuickFix(fix.getName(), fix.getQuickFixType(), fix.getSearchString(), fix.getReplacementString(), fix.getNewLine());
+			}
+			quickFixOffsets.writeInt(quickFixCount);
+			return size++;
+		}
+		
+		private void writeRow(String path, String severity, String ruleId, String title, String hint, String sourceSnippet,
+				String originalLineSource, String reportLocation, int line, int column, int length, int effort) throws IOException {
+			writeString(Column.PATH, path);
+			writeString(Column.SEVERITY, severity);
+			writeString(Column.RULE_ID, ruleId);
+			writeString(Column.TITLE, title);
+			writeString(Column.HINT, hint);
+			writeString(Column.SOURCE_SNIPPET, sourceSnippet);
+			writeString(Column.ORIGINAL_LINE_SOURCE, originalLineSource);
+			writeString(Column.REPORT_LOCATION, reportLocation);
+			columns.get(Column.LINE).writeInt(line);
+			columns.get(Column.COLUMN).writeInt(column);
+			columns.get(Column.LENGTH).writeInt(length);
+			columns.get(Column.EFFORT).writeInt(effort);
+		}
+		
+		private void writeLink(String description, String url) throws IOException {
+			links.writeInt(index(description));
+			links.writeInt(index(url));
+			linkCount++;
+		}
+		
+		private void writeQuickFix(String name, String type, String search, String replacement, String newLine) throws IOException {
+			quickFixes.writeInt(index(name));
+			quickFixes.writeInt(index(type));
+			quickFixes.writeInt(index(search));
+			quickFixes.writeInt(index(replacement));
+			quickFixes.writeInt(index(newLine));
+			quickFixCount++;
+		}
+
+		private void writeString(Column column, String value) throws IOException {
+			columns.get(column).writeInt(index(value));
+		}
+
+		/**
+		 * Returns the index of the specified string, storing it if the dictionary doesn't remember it.
+		 */
+		private int index(String value) throws IOException {
+			if (value == null) {
+				return -1;
+			}
+			Integer index = dictionary.get(value);
+			if (index == null) {
+				index = stringCount++;
+				dictionary.put(value, index);
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				// offsets are ints, and the string data is mapped into a single buffer.
+				if (bytes.length > Integer.MAX_VALUE - stringSize) {
+					throw new IOException("ColumnarIssueStore:: String data exceeds the maximum store size"); //$NON-NLS-1$
+				}
+				stringData.write(bytes);
+				stringSize += bytes.length;
+				stringOffsets.writeInt(stringSize);
+			}
+			return index;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void close() throws IOException {
+			IOException error = null;
+			for (DataOutputStream output : outputs) {
+				try {
+					output.close();
+				} catch (IOException e) {
+					error = e;
+				}
+			}
+			if (error != null) {
+				throw error;
+			}
+		}
+	}
+}
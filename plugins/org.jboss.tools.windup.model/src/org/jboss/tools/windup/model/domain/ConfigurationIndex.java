@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.WindupModel;
+import org.jboss.tools.windup.windup.WindupPackage;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Indexes the configurations of Windup's model by name and by the time they were last run.
+ *
+ * The index adapts the model and each of its configurations, and is updated as configurations
+ * are added, removed, renamed or run.
+ */
+class ConfigurationIndex extends AdapterImpl {
+
+	private final ListMultimap<String, ConfigurationElement> names = ArrayListMultimap.create();
+
+	/**
+	 * The keys each configuration is currently ordered by.
+	 */
+	private final Map<ConfigurationElement, Key> keys = Maps.newHashMap();
+
+	/**
+	 * Configurations ordered from the most to the least recently run.
+	 */
+	private final NavigableSet<ConfigurationElement> recency = Sets.newTreeSet(
+			Comparator.comparing((ConfigurationElement configuration) -> keys.get(configuration)));
+
+	private long sequence;
+
+	public ConfigurationIndex(WindupModel model) {
+		model.eAdapters().add(this);
+		model.getConfigurationElements().forEach(this::add);
+	}
+
+	/**
+	 * Returns the first configuration with the specified name, or null if there is none.
+	 */
+	public synchronized ConfigurationElement find(String name) {
+		List<ConfigurationElement> configurations = names.get(name);
+		return configurations.isEmpty() ? null : configurations.get(0);
+	}
+
+	/**
+	 * Returns the most recently run configuration. If no configuration has run, returns the first configuration.
+	 */
+	public synchronized ConfigurationElement getRecent() {
+		return recency.isEmpty() ? null : recency.first();
+	}
+
+	private synchronized void add(ConfigurationElement configuration) {
+		if (keys.containsKey(configuration)) {
+			return;
+		}
+		keys.put(configuration, new Key(configuration.getLastRun(), sequence++));
+		recency.add(configuration);
+		names.put(configuration.getName(), configuration);
+		configuration.eAdapters().add(this);
+	}
+
+	private synchronized void remove(ConfigurationElement configuration) {
+		if (!keys.containsKey(configuration)) {
+			return;
+		}
+		configuration.eAdapters().remove(this);
+		names.remove(configuration.getName(), configuration);
+		recency.remove(configuration);
+		keys.remove(configuration);
+	}
+
+	private synchronized void rename(ConfigurationElement configuration, String oldName) {
+		if (keys.containsKey(configuration)) {
+			names.remove(oldName, configuration);
+			names.put(configuration.getName(), configuration);
+		}
+	}
+
+	private synchronized void reorder(ConfigurationElement configuration) {
+		Key key = keys.get(configuration);
+		if (key != null) {
+			// remove while the set can still locate the configuration by its previous key.
+			recency.remove(configuration);
+			keys.put(configuration, new Key(configuration.getLastRun(), key.sequence));
+			recency.add(configuration);
+		}
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.isTouch()) {
+			return;
+		}
+		Object notifier = notification.getNotifier();
+		if (notifier instanceof WindupModel) {
+			if (notification.getFeatureID(WindupModel.class) == WindupPackage.WINDUP_MODEL__CONFIGURATION_ELEMENTS) {
+				removed(notification.getOldValue());
+				added(notification.getNewValue());
+			}
+		}
+		else if (notifier instanceof ConfigurationElement) {
+			ConfigurationElement configuration = (ConfigurationElement)notifier;
+			switch (notification.getFeatureID(ConfigurationElement.class)) {
+				case WindupPackage.CONFIGURATION_ELEMENT__NAME:
+					rename(configuration, notification.getOldStringValue());
+					break;
+				case WindupPackage.CONFIGURATION_ELEMENT__LAST_RUN:
+					reorder(configuration);
+					break;
+			}
+		}
+	}
+
+	private void added(Object value) {
+		if (value instanceof ConfigurationElement) {
+			add((ConfigurationElement)value);
+		}
+		else if (value instanceof Collection) {
+			((Collection<?>)value).forEach(this::added);
+		}
+	}
+
+	private void removed(Object value) {
+		if (value instanceof ConfigurationElement) {
+			remove((ConfigurationElement)value);
+		}
+		else if (value instanceof Collection) {
+			((Collection<?>)value).forEach(this::removed);
+		}
+	}
+
+	/**
+	 * Orders configurations by descending run time, and then by the order in which they were indexed.
+	 */
+	private static class Key implements Comparable<Key> {
+
+		private final long lastRun;
+		private final long sequence;
+
+		public Key(long lastRun, long sequence) {
+			this.lastRun = lastRun;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(Key other) {
+			int result = Long.compare(other.lastRun, lastRun);
+			return result != 0 ? result : Long.compare(sequence, other.sequence);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.tools.windup.windup.Issue;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * The differences between the issues of two runs, as computed by the {@link IssueDeltaService}.
+ *
+ * Issues reported by both runs are either unchanged, or moved if the issue's source line is now at
+ * a different line. Matched issues are mapped from the issue of the previous run to the issue of the current run.
+ */
+public class IssueDelta {
+
+	private final List<Issue> added = Lists.newArrayList();
+	private final List<Issue> removed = Lists.newArrayList();
+	private final Map<Issue, Issue> moved = Maps.newLinkedHashMap();
+	private final Map<Issue, Issue> unchanged = Maps.newLinkedHashMap();
+
+	IssueDelta() {
+	}
+
+	/**
+	 * Returns the issues of the current run that the previous run did not report.
+	 */
+	public List<Issue> getAdded() {
+		return added;
+	}
+
+	/**
+	 * Returns the issues of the previous run that the current run no longer reports.
+	 */
+	public List<Issue> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * Returns the issues of the previous run that the current run reports at another line,
+	 * mapped to the issues of the current run.
+	 */
+	public Map<Issue, Issue> getMoved() {
+		return moved;
+	}
+
+	/**
+	 * Returns the issues of the previous run that the current run reports at the same line,
+	 * mapped to the issues of the current run.
+	 */
+	public Map<Issue, Issue> getUnchanged() {
+		return unchanged;
+	}
+
+	/**
+	 * Returns true if the runs reported different issues, or the same issues at different lines.
+	 */
+	public boolean hasChanges() {
+		return !added.isEmpty() || !removed.isEmpty() || !moved.isEmpty();
+	}
+}
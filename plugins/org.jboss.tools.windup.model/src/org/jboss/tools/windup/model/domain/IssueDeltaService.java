@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.e4.core.di.annotations.Creatable;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupResult;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Service computing the differences between the issues of two runs.
+ *
+ * Issues are matched by hashed keys rather than compared pairwise, so a delta is computed in time linear
+ * to the number of issues. An issue of the current run first matches an issue of the previous run with the same
+ * rule, file, source line and line number. Failing that, it matches the issue with the same rule, file and
+ * source line that is closest to it, provided it moved by no more than {@link #MAX_LINE_DISTANCE} lines. The candidates
+ * of each rule, file and source line are indexed by line, so the closest is found in logarithmic time.
+ * Source lines are compared with their whitespace normalized, so reformatted lines still match.
+ */
+@Singleton
+@Creatable
+public class IssueDeltaService {
+
+	/**
+	 * Maximum number of lines an issue may move between runs and still be considered the same issue.
+	 */
+	private static final int MAX_LINE_DISTANCE = 200;
+
+	private static final char SEPARATOR = '\u0000';
+
+	@Inject private ModelService modelService;
+
+	/**
+	 * Computes the delta between the most recent run in the input's history and the input's current result.
+	 *
+	 * @return the delta, or null if the input has no history, or its previous run can no longer be reconstructed.
+	 */
+	public IssueDelta computeSinceLastRun(Input input) {
+		WindupResult current = input.getWindupResult();
+		if (current == null || input.getHistory().isEmpty()) {
+			return null;
+		}
+		return compute(input.getHistory().get(0), current);
+	}
+
+	/**
+	 * Computes the delta between two runs, each being either the current result of an input or a result in its history.
+	 *
+	 * @return the delta, or null if either run can no longer be reconstructed.
+	 */
+	public IssueDelta compute(WindupResult previous, WindupResult current) {
+		List<Issue> previousIssues = modelService.getRunIssues(previous);
+		List<Issue> currentIssues = modelService.getRunIssues(current);
+		if (previousIssues == null || currentIssues == null) {
+			return null;
+		}
+		return compute(previousIssues, currentIssues);
+	}
+
+	/**
+	 * Computes the delta between the issues of a previous and a current run.
+	 */
+	public IssueDelta compute(Collection<? extends Issue> previous, Collection<? extends Issue> current) {
+		IssueDelta delta = new IssueDelta();
+		Set<Issue> matched = Sets.newIdentityHashSet();
+
+		// Issues reported at the same line.
+		Map<String, Deque<Issue>> byLine = Maps.newHashMapWithExpectedSize(previous.size());
+		for (Issue issue : previous) {
+			byLine.computeIfAbsent(getLineKey(issue), key -> new ArrayDeque<>()).add(issue);
+		}
+		List<Issue> unmatched = Lists.newArrayList();
+		for (Issue issue : current) {
+			Deque<Issue> candidates = byLine.get(getLineKey(issue));
+			Issue match = candidates != null ? candidates.poll() : null;
+			if (match != null) {
+				delta.getUnchanged().put(match, issue);
+				matched.add(match);
+			}
+			else {
+				unmatched.add(issue);
+			}
+		}
+
+		// Issues whose source line moved.
+		if (!unmatched.isEmpty()) {
+			Map<String, NavigableMap<Integer, Deque<Issue>>> byContent = Maps.newHashMap();
+			for (Issue issue : previous) {
+				if (!matched.contains(issue)) {
+					byContent.computeIfAbsent(getContentKey(issue), key -> new TreeMap<>())
+							.computeIfAbsent(getLine(issue), line -> new ArrayDeque<>()).add(issue);
+				}
+			}
+			for (Issue issue : unmatched) {
+				NavigableMap<Integer, Deque<Issue>> candidates = byContent.get(getContentKey(issue));
+				Issue match = candidates != null ? removeClosest(candidates, getLine(issue)) : null;
+				if (match != null) {
+					delta.getMoved().put(match, issue);
+					matched.add(match);
+				}
+				else {
+					delta.getAdded().add(issue);
+				}
+			}
+		}
+
+		for (Issue issue : previous) {
+			if (!matched.contains(issue)) {
+				delta.getRemoved().add(issue);
+			}
+		}
+		return delta;
+	}
+
+	/**
+	 * Removes and returns the candidate closest to the specified line, or returns null if none is close enough.
+	 * The candidates are indexed by their line, so the closest are found without scanning them.
+	 */
+	private static Issue removeClosest(NavigableMap<Integer, Deque<Issue>> candidates, int line) {
+		Map.Entry<Integer, Deque<Issue>> floor = candidates.floorEntry(line);
+		Map.Entry<Integer, Deque<Issue>> ceiling = candidates.ceilingEntry(line);
+		Map.Entry<Integer, Deque<Issue>> closest = floor == null || 
+				(ceiling != null && ceiling.getKey() - line < line - floor.getKey()) ? ceiling : floor;
+		if (closest == null || Math.abs(closest.getKey() - line) > MAX_LINE_DISTANCE) {
+			return null;
+		}
+		Issue issue = closest.getValue().poll();
+		if (closest.getValue().isEmpty()) {
+			candidates.remove(closest.getKey());
+		}
+		return issue;
+	}
+
+	private static int getLine(Issue issue) {
+		return issue instanceof Hint ? ((Hint)issue).getLineNumber() : -1;
+	}
+
+	private static String getLineKey(Issue issue) {
+		return getContentKey(issue) + SEPARATOR + getLine(issue);
+	}
+
+	private static String getContentKey(Issue issue) {
+		return issue.getRuleId() + SEPARATOR + issue.getFileAbsolutePath() + SEPARATOR + normalize(issue.getOriginalLineSource());
+	}
+
+	/**
+	 * Trims the source line, and collapses each run of whitespace within it into a single space.
+	 */
+	static String normalize(String source) {
+		if (source == null) {
+			return "";
+		}
+		StringBuilder builder = new StringBuilder(source.length());
+		boolean whitespace = false;
+		for (int i = 0; i < source.length(); i++) {
+			char c = source.charAt(i);
+			if (Character.isWhitespace(c)) {
+				whitespace = builder.length() > 0;
+			}
+			else {
+				if (whitespace) {
+					builder.append(' ');
+					whitespace = false;
+				}
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+}
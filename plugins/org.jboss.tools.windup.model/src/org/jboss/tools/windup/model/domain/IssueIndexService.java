@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.e4.core.di.annotations.Creatable;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupModel;
+import org.jboss.tools.windup.windup.WindupPackage;
+import org.jboss.tools.windup.windup.WindupResult;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+
+/**
+ * Service maintaining secondary indexes over the issues of Windup's model.
+ *
+ * Issues are indexed by rule, severity, workspace file, project, state, and quick fix availability.
+ * Queries only return the issues of each input's current result, not those of the runs in its history.
+ * The indexes are kept in sync by an adapter on the model's resource set, which indexes issues as
+ * their results are loaded or created, and re-indexes them when the attributes they are indexed by change.
+ * Results are demand-loaded, so a query first resolves the current results of the inputs in its scope,
+ * which is narrowed by its configuration, project or file.
+ * Use {@link #query()} to look up issues through the indexes.
+ */
+@Singleton
+@Creatable
+public class IssueIndexService {
+
+	/**
+	 * The state of an issue. An issue whose marker the user deleted is {@link #DELETED}, whatever its other attributes.
+	 */
+	public static enum State {
+		ACTIVE, FIXED, STALE, DELETED
+	}
+
+	@Inject private ModelService modelService;
+
+	private final SetMultimap<String, Issue> rules = HashMultimap.create();
+	private final SetMultimap<String, Issue> severities = HashMultimap.create();
+	private final SetMultimap<IFile, Issue> files = HashMultimap.create();
+	private final SetMultimap<IProject, Issue> projects = HashMultimap.create();
+	private final SetMultimap<State, Issue> states = HashMultimap.create();
+	private final Set<Issue> fixable = Sets.newHashSet();
+
+	/**
+	 * The keys each issue is currently indexed by.
+	 */
+	private final Map<Issue, Keys> keys = Maps.newHashMap();
+
+	private final IndexAdapter adapter = new IndexAdapter();
+
+	/**
+	 * The model whose results are resolved by queries, once it is loaded.
+	 */
+	private volatile WindupModel model;
+
+	@PostConstruct
+	private void initialize() {
+		// don't wait for the model, this service is created while views are being created.
+		modelService.getModelAsync().thenAccept(model -> {
+			this.model = model;
+			attach(getResourceSet(model));
+		});
+	}
+
+	@PreDestroy
+	private void dispose() {
+		if (modelService.isLoaded()) {
+			detach(getResourceSet(modelService.getModel()));
+		}
+	}
+
+	/**
+	 * Indexes the issues of the specified resource set, and keeps the indexes in sync with it from then on.
+	 */
+	void attach(ResourceSet resourceSet) {
+		resourceSet.eAdapters().add(adapter);
+	}
+
+	void detach(ResourceSet resourceSet) {
+		resourceSet.eAdapters().remove(adapter);
+	}
+
+	private static ResourceSet getResourceSet(WindupModel model) {
+		return model.eResource().getResourceSet();
+	}
+
+	/**
+	 * Returns a new query over the indexed issues.
+	 */
+	public IssueQuery query() {
+		return new IssueQuery(this);
+	}
+
+	/**
+	 * Returns the issues matching the specified query.
+	 */
+	List<Issue> execute(IssueQuery query) {
+		List<Issue> scopedIssues = Lists.newArrayList();
+		WindupModel model = this.model;
+		if (model != null) {
+			// only loaded results are indexed, resolving the results in scope indexes their issues.
+			modelService.read(() -> {
+				for (Input input : getInputs(model, query)) {
+					WindupResult result = input.getWindupResult();
+					if (result != null && !query.isIndexed()) {
+						scopedIssues.addAll(result.getIssues());
+					}
+				}
+			});
+		}
+		synchronized (this) {
+			Collection<Issue> candidates = null;
+			candidates = narrow(candidates, query.getRuleId() != null, () -> rules.get(query.getRuleId()));
+			candidates = narrow(candidates, query.getSeverity() != null, () -> severities.get(query.getSeverity()));
+			candidates = narrow(candidates, query.getFile() != null, () -> files.get(query.getFile()));
+			candidates = narrow(candidates, query.getProject() != null, () -> projects.get(query.getProject()));
+			candidates = narrow(candidates, query.getState() != null, () -> states.get(query.getState()));
+			candidates = narrow(candidates, query.isFixable(), () -> fixable);
+			if (candidates == null) {
+				candidates = scopedIssues;
+			}
+			List<Issue> issues = Lists.newArrayList();
+			for (Issue issue : candidates) {
+				if (matches(issue, query)) {
+					issues.add(issue);
+				}
+			}
+			return issues;
+		}
+	}
+
+	/**
+	 * Returns the inputs whose current result may hold issues matching the specified query.
+	 */
+	private static List<Input> getInputs(WindupModel model, IssueQuery query) {
+		Collection<ConfigurationElement> configurations = query.getConfiguration() != null ?
+				Lists.newArrayList(query.getConfiguration()) : model.getConfigurationElements();
+		IProject project = query.getProject() != null ? query.getProject() :
+				query.getFile() != null ? query.getFile().getProject() : null;
+		List<Input> inputs = Lists.newArrayList();
+		for (ConfigurationElement configuration : configurations) {
+			for (Input input : configuration.getInputs()) {
+				// inputs are named after their project.
+				if (project == null || project.getName().equals(input.getName())) {
+					inputs.add(input);
+				}
+			}
+		}
+		return inputs;
+	}
+
+	/**
+	 * Returns the smaller of the current candidates and the issues of the specified index.
+	 */
+	private static Collection<Issue> narrow(Collection<Issue> candidates, boolean constrained,
+			Supplier<Collection<Issue>> index) {
+		if (!constrained) {
+			return candidates;
+		}
+		Collection<Issue> issues = index.get();
+		return candidates == null || issues.size() < candidates.size() ? issues : candidates;
+	}
+
+	private boolean matches(Issue issue, IssueQuery query) {
+		Keys issueKeys = keys.get(issue);
+		if (issueKeys == null) {
+			return false;
+		}
+		if (query.getRuleId() != null && !Objects.equal(query.getRuleId(), issueKeys.ruleId)) {
+			return false;
+		}
+		if (query.getSeverity() != null && !Objects.equal(query.getSeverity(), issueKeys.severity)) {
+			return false;
+		}
+		if (query.getFile() != null && !Objects.equal(query.getFile(), issueKeys.file)) {
+			return false;
+		}
+		if (query.getProject() != null && (issueKeys.file == null || !query.getProject().equals(issueKeys.file.getProject()))) {
+			return false;
+		}
+		if (query.getState() != null && query.getState() != issueKeys.state) {
+			return false;
+		}
+		if (query.isFixable() && !issueKeys.fixable) {
+			return false;
+		}
+		if (query.getConfiguration() != null && ModelService.getConfiguration(issue) != query.getConfiguration()) {
+			return false;
+		}
+		return isCurrent(issue);
+	}
+
+	/**
+	 * Returns false if the issue belongs to a result in the history of its input, rather than to the input's current result.
+	 */
+	private static boolean isCurrent(Issue issue) {
+		EObject result = issue.eContainer();
+		EObject input = result != null ? result.eContainer() : null;
+		return !(input instanceof Input) || input.eGet(WindupPackage.eINSTANCE.getInput_WindupResult(), false) == result;
+	}
+
+	private synchronized void index(Issue issue) {
+		Keys previous = keys.get(issue);
+		Keys current = new Keys(issue, previous);
+		if (previous != null) {
+			if (previous.equals(current)) {
+				return;
+			}
+			unindex(issue);
+		}
+		keys.put(issue, current);
+		rules.put(current.ruleId, issue);
+		severities.put(current.severity, issue);
+		states.put(current.state, issue);
+		if (current.file != null) {
+			files.put(current.file, issue);
+			projects.put(current.file.getProject(), issue);
+		}
+		if (current.fixable) {
+			fixable.add(issue);
+		}
+	}
+
+	private synchronized void unindex(Issue issue) {
+		Keys current = keys.remove(issue);
+		if (current == null) {
+			return;
+		}
+		rules.remove(current.ruleId, issue);
+		severities.remove(current.severity, issue);
+		states.remove(current.state, issue);
+		if (current.file != null) {
+			files.remove(current.file, issue);
+			projects.remove(current.file.getProject(), issue);
+		}
+		fixable.remove(issue);
+	}
+
+	/**
+	 * The values an issue is indexed by.
+	 */
+	private static class Keys {
+
+		private final String ruleId;
+		private final String severity;
+		private final String path;
+		private final IFile file;
+		private final State state;
+		private final boolean fixable;
+
+		public Keys(Issue issue, Keys previous) {
+			this.ruleId = issue.getRuleId();
+			this.severity = issue.getSeverity();
+			this.path = issue.getFileAbsolutePath();
+			if (previous != null && Objects.equal(previous.path, path)) {
+				// avoid looking up the workspace file again.
+				this.file = previous.file;
+			}
+			else {
+				this.file = path != null ? ModelService.getIssueResource(issue) : null;
+			}
+			this.state = issue.isDeleted() ? State.DELETED : issue.isFixed() ? State.FIXED : issue.isStale() ? State.STALE : State.ACTIVE;
+			this.fixable = state == State.ACTIVE && !issue.getSharedQuickFixes().isEmpty();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Keys)) {
+				return false;
+			}
+			Keys other = (Keys)obj;
+			return Objects.equal(ruleId, other.ruleId) && Objects.equal(severity, other.severity) &&
+					Objects.equal(path, other.path) && state == other.state && fixable == other.fixable;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(ruleId, severity, path, state, fixable);
+		}
+	}
+
+	/**
+	 * Indexes issues as they are attached to the resource set, and re-indexes them as they change.
+	 */
+	private class IndexAdapter extends EContentAdapter {
+
+		@Override
+		protected boolean resolve() {
+			// Never resolve containment proxies, that would load every result.
+			return false;
+		}
+
+		@Override
+		protected void setTarget(EObject target) {
+			super.setTarget(target);
+			if (target instanceof Issue) {
+				index((Issue)target);
+			}
+		}
+
+		@Override
+		protected void unsetTarget(EObject target) {
+			super.unsetTarget(target);
+			if (target instanceof Issue) {
+				unindex((Issue)target);
+			}
+		}
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+			if (notification.isTouch() || !(notification.getNotifier() instanceof Issue)) {
+				return;
+			}
+			switch (notification.getFeatureID(Issue.class)) {
+				case WindupPackage.ISSUE__RULE_ID:
+				case WindupPackage.ISSUE__SEVERITY:
+				case WindupPackage.ISSUE__FILE_ABSOLUTE_PATH:
+				case WindupPackage.ISSUE__FIXED:
+				case WindupPackage.ISSUE__STALE:
+				case WindupPackage.ISSUE__DELETED:
+				case WindupPackage.ISSUE__SHARED_QUICK_FIXES:
+					Issue issue = (Issue)notification.getNotifier();
+					synchronized (IssueIndexService.this) {
+						if (keys.containsKey(issue)) {
+							index(issue);
+						}
+					}
+			}
+		}
+	}
+}
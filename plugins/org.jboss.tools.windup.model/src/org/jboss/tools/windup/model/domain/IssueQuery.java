@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.jboss.tools.windup.model.domain.IssueIndexService.State;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Issue;
+
+/**
+ * A query over the issues indexed by the {@link IssueIndexService}.
+ *
+ * For example, all fixable mandatory issues in a project:
+ * <pre>
+ * indexService.query().severity("MANDATORY").project(project).fixable().list();
+ * </pre>
+ */
+public class IssueQuery {
+
+	private final IssueIndexService indexService;
+
+	private ConfigurationElement configuration;
+	private String ruleId;
+	private String severity;
+	private IFile file;
+	private IProject project;
+	private State state;
+	private boolean fixable;
+
+	IssueQuery(IssueIndexService indexService) {
+		this.indexService = indexService;
+	}
+
+	/**
+	 * Restricts the query to the issues generated by the specified configuration.
+	 */
+	public IssueQuery configuration(ConfigurationElement configuration) {
+		this.configuration = configuration;
+		return this;
+	}
+
+	public IssueQuery rule(String ruleId) {
+		this.ruleId = ruleId;
+		return this;
+	}
+
+	public IssueQuery severity(String severity) {
+		this.severity = severity;
+		return this;
+	}
+
+	public IssueQuery file(IFile file) {
+		this.file = file;
+		return this;
+	}
+
+	public IssueQuery project(IProject project) {
+		this.project = project;
+		return this;
+	}
+
+	public IssueQuery state(State state) {
+		this.state = state;
+		return this;
+	}
+
+	/**
+	 * Restricts the query to issues that are neither fixed nor stale, and have at least one quick fix.
+	 */
+	public IssueQuery fixable() {
+		this.fixable = true;
+		return this;
+	}
+
+	/**
+	 * Returns the issues matching this query.
+	 */
+	public List<Issue> list() {
+		return indexService.execute(this);
+	}
+
+	/**
+	 * Returns the number of issues matching this query.
+	 */
+	public int count() {
+		return list().size();
+	}
+
+	/**
+	 * Returns true if at least one issue matches this query.
+	 */
+	public boolean exists() {
+		return !list().isEmpty();
+	}
+
+	ConfigurationElement getConfiguration() {
+		return configuration;
+	}
+
+	String getRuleId() {
+		return ruleId;
+	}
+
+	String getSeverity() {
+		return severity;
+	}
+
+	IFile getFile() {
+		return file;
+	}
+
+	IProject getProject() {
+		return project;
+	}
+
+	State getState() {
+		return state;
+	}
+
+	boolean isFixable() {
+		return fixable;
+	}
+
+	/**
+	 * Returns true if this query is constrained by at least one of the indexes.
+	 */
+	boolean isIndexed() {
+		return ruleId != null || severity != null || file != null || project != null || state != null || fixable;
+	}
+}
@@ -0,0 +1,431 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.jboss.tools.windup.model.Activator;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * An append-only journal of the attribute changes made to Windup's model.
+ *
+ * Small edits, such as marking an issue fixed or stale, are appended to the journal instead of
+ * rewriting the model. Structural changes, such as the results of a new run, still require a snapshot,
+ * after which the journal is truncated. When the model is loaded, journaled changes are replayed onto
+ * each resource as it gets loaded, so results that are never opened are never loaded for replay either.
+ * 
+ * Each entry is framed by its length and checksum. An entry torn by an interrupted write, and anything
+ * following it, is dropped when the journal is read.
+ */
+public class ModelJournal extends EContentAdapter {
+
+	/**
+	 * Number of journaled changes after which the journal should be compacted into a snapshot.
+	 */
+	private static final int COMPACTION_THRESHOLD = 5000;
+
+	/**
+	 * Size, in bytes, of the length and checksum preceding each entry.
+	 */
+	private static final int ENTRY_HEADER_SIZE = 8;
+
+	private final File file;
+	private final URI baseURI;
+
+	/**
+	 * Changes recorded since the last flush.
+	 */
+	private final List<Entry> buffer = Lists.newArrayList();
+
+	/**
+	 * Journaled changes to resources that have not been loaded yet.
+	 */
+	private final ListMultimap<URI, Entry> pending = ArrayListMultimap.create();
+
+	/**
+	 * Resources that had journaled changes replayed, and therefore differ from their snapshot.
+	 */
+	private final Set<Resource> replayed = Sets.newHashSet();
+
+	private boolean snapshotRequired;
+	private boolean snapshotting;
+	private boolean replaying;
+	private int size;
+
+	public ModelJournal(File file) {
+		this.file = file;
+		this.baseURI = URI.createFileURI(file.getAbsolutePath());
+	}
+
+	@Override
+	protected boolean resolve() {
+		// Never resolve containment proxies, that would load every result.
+		return false;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (replaying || notification.isTouch()) {
+			return;
+		}
+		Object notifier = notification.getNotifier();
+		if (notifier instanceof Resource) {
+			Resource resource = (Resource)notifier;
+			int featureId = notification.getFeatureID(Resource.class);
+			if (featureId == Resource.RESOURCE__IS_LOADED && notification.getNewBooleanValue()) {
+				replay(resource);
+			}
+			else if (featureId == Resource.RESOURCE__CONTENTS && !isLoading(resource) && resource.isLoaded()) {
+				// contents cleared by an unload are not a change, the resource is no longer loaded by then.
+				requireSnapshot();
+			}
+			return;
+		}
+		if (!(notifier instanceof EObject)) {
+			return;
+		}
+		int eventType = notification.getEventType();
+		if (eventType == Notification.RESOLVE || eventType == Notification.REMOVING_ADAPTER) {
+			return;
+		}
+		EObject object = (EObject)notifier;
+		Resource resource = object.eResource();
+		if (resource == null || isLoading(resource)) {
+			return;
+		}
+		Object feature = notification.getFeature();
+		if (feature instanceof EStructuralFeature && ((EStructuralFeature)feature).isTransient()) {
+			return;
+		}
+		if (feature instanceof EAttribute && !((EAttribute)feature).isMany() &&
+				(eventType == Notification.SET || eventType == Notification.UNSET)) {
+			record(object, (EAttribute)feature, notification.getNewValue());
+		}
+		else {
+			requireSnapshot();
+		}
+	}
+
+	private static boolean isLoading(Resource resource) {
+		return resource instanceof Resource.Internal && ((Resource.Internal)resource).isLoading();
+	}
+
+	private synchronized void record(EObject object, EAttribute attribute, Object value) {
+		if (snapshotRequired) {
+			// The snapshot will contain this change.
+			return;
+		}
+		URI uri = EcoreUtil.getURI(object);
+		String literal = value != null ? EcoreUtil.convertToString(attribute.getEAttributeType(), value) : null;
+		buffer.add(new Entry(uri.trimFragment().deresolve(baseURI), uri.fragment(), attribute.getName(), literal));
+	}
+
+	private synchronized void requireSnapshot() {
+		snapshotRequired = true;
+		buffer.clear();
+	}
+
+	/**
+	 * Returns true if the model changed in a way that cannot be journaled, and must be saved in full.
+	 */
+	public synchronized boolean isSnapshotRequired() {
+		return snapshotRequired;
+	}
+
+	/**
+	 * Returns true if the journal grew large enough that it should be compacted into a snapshot.
+	 */
+	public synchronized boolean isCompactionRequired() {
+		return size > COMPACTION_THRESHOLD;
+	}
+
+	/**
+	 * Returns the loaded resources whose journaled changes must be included in the next snapshot.
+	 */
+	public synchronized Collection<Resource> getReplayedResources() {
+		return Lists.newArrayList(replayed);
+	}
+
+	/**
+	 * Appends the changes recorded since the last flush to the journal file.
+	 */
+	public synchronized void flush() {
+		if (buffer.isEmpty() || snapshotRequired || snapshotting) {
+			return;
+		}
+		try {
+			write(buffer, true);
+			size += buffer.size();
+		} catch (IOException e) {
+			Activator.log(e);
+			// Fall back to saving the model in full.
+			snapshotRequired = true;
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Starts a snapshot, called while the model is being serialized. The changes recorded so far are part of
+	 * the snapshot. The changes recorded until the snapshot is finished are held back, since the journal
+	 * file is about to be truncated.
+	 */
+	public synchronized void startSnapshot() {
+		buffer.clear();
+		replayed.clear();
+		snapshotRequired = false;
+		snapshotting = true;
+	}
+
+	/**
+	 * Truncates the journal once the snapshot has been written. Changes to results that have not been loaded
+	 * are not part of the snapshot, and are therefore carried over to the new journal, as are the changes
+	 * recorded since the snapshot was taken. If the snapshot could not be written, the journal is left as is,
+	 * and the model must be saved in full again.
+	 */
+	public synchronized void finishSnapshot(boolean written) {
+		snapshotting = false;
+		if (!written) {
+			requireSnapshot();
+			return;
+		}
+		pending.keySet().removeIf(uri -> !new File(uri.toFileString()).exists());
+		List<Entry> entries = Lists.newArrayList(pending.values());
+		entries.addAll(buffer);
+		try {
+			write(entries, false);
+			size = entries.size();
+			buffer.clear();
+		} catch (IOException e) {
+			Activator.log(e);
+			requireSnapshot();
+		}
+	}
+
+	/**
+	 * Discards the journal, used when the model it applies to no longer exists.
+	 */
+	public synchronized void discard() {
+		buffer.clear();
+		pending.clear();
+		replayed.clear();
+		size = 0;
+		if (file.exists() && !file.delete()) {
+			Activator.logErrorMessage("ModelJournal:: Unable to delete journal: " + file); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Reads the journal file, making its changes available for replay as their resources get loaded.
+	 */
+	public synchronized void read() {
+		if (!file.exists()) {
+			return;
+		}
+		long length = file.length();
+		long offset = 0;
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			while (offset < length) {
+				Entry entry = readEntry(input, length - offset);
+				if (entry == null) {
+					break;
+				}
+				pending.put(entry.resourceURI.resolve(baseURI), entry);
+				offset += ENTRY_HEADER_SIZE + entry.size;
+				size++;
+			}
+		} catch (IOException e) {
+			Activator.log(e);
+		}
+		if (offset < length) {
+			// drop the torn entry, so that later entries are not appended after it.
+			Activator.logErrorMessage("ModelJournal:: Truncating journal at damaged entry: " + file); //$NON-NLS-1$
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+				channel.truncate(offset);
+			} catch (IOException e) {
+				Activator.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Reads the next entry of the journal.
+	 * 
+	 * @return the entry, or null if the entry is incomplete or its checksum doesn't match its content.
+	 */
+	private static Entry readEntry(DataInputStream input, long remaining) throws IOException {
+		if (remaining < ENTRY_HEADER_SIZE) {
+			return null;
+		}
+		int length = input.readInt();
+		int checksum = input.readInt();
+		if (length < 0 || length > remaining - ENTRY_HEADER_SIZE) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		if (checksum(bytes) != checksum) {
+			return null;
+		}
+		try {
+			return Entry.read(new DataInputStream(new ByteArrayInputStream(bytes)), length);
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+
+	private static int checksum(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length);
+		return (int)crc.getValue();
+	}
+
+	/**
+	 * Returns true while journaled changes are being applied to a resource being loaded.
+	 */
+	public boolean isReplaying() {
+		return replaying;
+	}
+
+	/**
+	 * Applies the journaled changes of the specified resource.
+	 */
+	public synchronized void replay(Resource resource) {
+		List<Entry> entries = pending.removeAll(resource.getURI());
+		if (entries.isEmpty()) {
+			return;
+		}
+		replaying = true;
+		try {
+			for (Entry entry : entries) {
+				EObject object = resource.getEObject(entry.fragment);
+				if (object != null) {
+					EStructuralFeature feature = object.eClass().getEStructuralFeature(entry.feature);
+					if (feature instanceof EAttribute) {
+						EAttribute attribute = (EAttribute)feature;
+						object.eSet(attribute, entry.value != null ?
+								EcoreUtil.createFromString(attribute.getEAttributeType(), entry.value) : null);
+					}
+				}
+			}
+		} catch (RuntimeException e) {
+			Activator.log(e);
+		} finally {
+			replaying = false;
+		}
+		replayed.add(resource);
+	}
+
+	private void write(Collection<Entry> entries, boolean append) throws IOException {
+		file.getParentFile().mkdirs();
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append)))) {
+			for (Entry entry : entries) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				entry.write(new DataOutputStream(bytes));
+				byte[] content = bytes.toByteArray();
+				output.writeInt(content.length);
+				output.writeInt(checksum(content));
+				output.write(content);
+			}
+		}
+	}
+
+	/**
+	 * A journaled attribute change.
+	 */
+	private static class Entry {
+
+		private final URI resourceURI;
+		private final String fragment;
+		private final String feature;
+		private final String value;
+
+		/**
+		 * Size, in bytes, of the entry as read from the journal.
+		 */
+		private final int size;
+
+		public Entry(URI resourceURI, String fragment, String feature, String value) {
+			this(resourceURI, fragment, feature, value, 0);
+		}
+
+		private Entry(URI resourceURI, String fragment, String feature, String value, int size) {
+			this.resourceURI = resourceURI;
+			this.fragment = fragment;
+			this.feature = feature;
+			this.value = value;
+			this.size = size;
+		}
+
+		public void write(DataOutputStream output) throws IOException {
+			writeString(output, resourceURI.toString());
+			writeString(output, fragment);
+			writeString(output, feature);
+			writeString(output, value);
+		}
+
+		public static Entry read(DataInputStream input, int size) throws IOException {
+			URI resourceURI = URI.createURI(readString(input));
+			return new Entry(resourceURI, readString(input), readString(input), readString(input), size);
+		}
+
+		private static void writeString(DataOutputStream output, String value) throws IOException {
+			if (value == null) {
+				output.writeInt(-1);
+			}
+			else {
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				output.writeInt(bytes.length);
+				output.write(bytes);
+			}
+		}
+
+		private static String readString(DataInputStream input) throws IOException {
+			int length = input.readInt();
+			if (length < 0) {
+				return null;
+			}
+			byte[] bytes = new byte[length];
+			input.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -12,17 +12,27 @@ package org.jboss.tools.windup.model.domain;
 
 import static org.jboss.tools.windup.model.domain.WindupConstants.CONFIG_DELETED;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -32,6 +42,7 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.apache.commons.io.FilenameUtils;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
@@ -39,16 +50,29 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.core.di.annotations.Creatable;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emf.transaction.RollbackException;
+import org.eclipse.emf.transaction.RunnableWithResult;
+import org.eclipse.emf.transaction.Transaction;
 import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.impl.InternalTransactionalEditingDomain;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.jboss.tools.common.xml.IMemento;
 import org.jboss.tools.common.xml.XMLMemento;
@@ -56,6 +80,8 @@ import org.jboss.tools.windup.model.Activator;
 import org.jboss.tools.windup.model.OptionFacades;
 import org.jboss.tools.windup.model.OptionFacades.OptionsFacadeManager;
 import org.jboss.tools.windup.model.util.DocumentUtils;
+import org.jboss.tools.windup.model.util.PayloadPool;
+import org.jboss.tools.windup.model.util.PayloadUtil;
 import org.jboss.tools.windup.runtime.WindupRuntimePlugin;
 import org.jboss.tools.windup.windup.ConfigurationElement;
 import org.jboss.tools.windup.windup.Input;
@@ -65,6 +91,7 @@ import org.jboss.tools.windup.windup.RuleRepository;
 import org.jboss.tools.windup.windup.Technology;
 import org.jboss.tools.windup.windup.WindupFactory;
 import org.jboss.tools.windup.windup.WindupModel;
+import org.jboss.tools.windup.windup.WindupPackage;
 import org.jboss.tools.windup.windup.WindupResult;
 import org.jboss.windup.bootstrap.help.Help;
 import org.jboss.windup.tooling.ExecutionResults;
@@ -75,8 +102,15 @@ import org.jboss.windup.tooling.data.ReportLink;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
 
-import com.google.common.base.Objects;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Collections2;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Ints;
 
 /**
  * Service for interacting with Windup's model and editing domain.
@@ -94,19 +128,143 @@ public class ModelService {
 	public static IPath reportsDir = Activator.getDefault().getStateLocation().append("reports"); //$NON-NLS-1$
     public static final String PROJECT_REPORT_HOME_PAGE = "index.html"; //$NON-NLS-1$
     
-    private static final String MODEL_FILE = "windup.xmi";
+    private static final String MODEL_FILE = "windup.bin"; //$NON-NLS-1$
+    private static final String LEGACY_MODEL_FILE = "windup.xmi"; //$NON-NLS-1$
+    private static final String UNREADABLE_MODEL_SUFFIX = ".unreadable"; //$NON-NLS-1$
+    
+    private static final String BINARY_EXTENSION = "bin"; //$NON-NLS-1$
+    private static final String XMI_EXTENSION = "xmi"; //$NON-NLS-1$
+    
+    private static final String RESULTS_DIR = "results"; //$NON-NLS-1$
+    private static final String JOURNAL_FILE = "windup.journal"; //$NON-NLS-1$
+    
+    /**
+     * Scheme of the URIs by which markers reference their issue, see {@link #getIssueURI(Issue)}.
+     */
+    private static final String ISSUE_URI_SCHEME = "windup"; //$NON-NLS-1$
+    
+    private static final char ID_SEPARATOR = '\u0000';
+    
+    /**
+     * Idle period, in milliseconds, after the last change before the model is saved.
+     */
+    private static final long SAVE_DELAY = 1000;
+    
+    /**
+     * Number of hints above which a result's hints are kept in a {@link ColumnarIssueStore} rather than the model.
+     */
+    private static final int COLUMNAR_STORE_THRESHOLD = Integer.getInteger("windup.columnarStoreThreshold", 1000000); //$NON-NLS-1$
+    
+    /**
+     * Number of previous runs kept in the history of each input.
+     */
+    private static final int RUN_HISTORY_SIZE = Integer.getInteger("windup.runHistorySize", 5); //$NON-NLS-1$
+    
+    /**
+     * Disk space, in bytes, that the run history of all inputs may occupy.
+     */
+    private static final long RUN_HISTORY_BUDGET = Long.getLong("windup.runHistoryBudget", 256L * 1024 * 1024); //$NON-NLS-1$
+    
+    /**
+     * Idle period, in milliseconds, after the last run before the run history is compacted.
+     */
+    private static final long RUN_HISTORY_DELAY = 10000;
+    
+    /**
+     * Number of issues attached to the model in each write transaction while results are ingested.
+     */
+    private static final int INGESTION_BATCH_SIZE = 1000;
 
     private OptionsFacadeManager optionsFacadeManager;
     
 	@Inject private IEventBroker broker;
 	
 	private WindupModel model;
+	private ResourceSet resourceSet;
 	private TransactionalEditingDomain domain;
 	
+	private Set<URI> discardedResults = Sets.newSetFromMap(Maps.newConcurrentMap());
+	
+	private ModelJournal journal;
+	
+	private ConfigurationIndex configurationIndex;
+	
+	private volatile boolean dirty;
+	
+	private Job saveJob = new Job(WindupConstants.SAVING_MODEL) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (dirty && isLoaded()) {
+				try {
+					persist();
+				} catch (RuntimeException e) {
+					// the model changed while it was being written, try again once it settles.
+					Activator.log(e);
+					dirty = true;
+					schedule(SAVE_DELAY);
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	};
+	{
+		saveJob.setSystem(true);
+	}
+	
+	/**
+	 * Inputs that were run since their history was last compacted.
+	 */
+	private final Set<Input> uncompactedInputs = Sets.newSetFromMap(Maps.newConcurrentMap());
+	
+	/**
+	 * The rows of each issue store, indexed by the workspace file of their issue.
+	 */
+	private final Map<ColumnarIssueStore, Map<IFile, int[]>> storeIndexes = Collections.synchronizedMap(new WeakHashMap<>());
+	
+	private Job historyJob = new Job(WindupConstants.COMPACTING_RUN_HISTORY) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (isLoaded()) {
+				List<Input> inputs = Lists.newArrayList(uncompactedInputs);
+				uncompactedInputs.removeAll(inputs);
+				Set<Resource> resolved = Sets.newHashSet();
+				// each input is compacted in its own transaction, so that other writers only wait for one input at a time.
+				for (Input input : inputs) {
+					update(() -> resolved.addAll(getResolvedResources(() -> compactRunHistory(input))));
+				}
+				update(() -> resolved.addAll(getResolvedResources(this::enforceRunHistoryBudget)));
+				// the runs resolved by the compaction are unloaded once their changes are saved.
+				persist();
+				update(() -> unloadResults(resolved));
+			}
+			return Status.OK_STATUS;
+		}
+	};
+	{
+		historyJob.setSystem(true);
+		historyJob.setPriority(Job.DECORATE);
+	}
+	
+	private final CompletableFuture<WindupModel> loaded = new CompletableFuture<>();
+	
 	@PostConstruct
 	private void initialize() {
 		domain = TransactionalEditingDomain.Registry.INSTANCE.getEditingDomain(DOMAIN_NAME);
-		load();
+		Job loadJob = new Job(WindupConstants.LOADING_MODEL) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					load();
+					loaded.complete(model);
+				} catch (RuntimeException e) {
+					Activator.log(e);
+					loaded.completeExceptionally(e);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		loadJob.setPriority(Job.SHORT);
+		loadJob.schedule();
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -114,8 +272,31 @@ public class ModelService {
 		return (T)domain;
 	}
 	
+	/**
+	 * Returns Windup's model, waiting for it to finish loading if needed.
+	 * Callers that must not block, such as views being created, should use {@link #getModelAsync()}.
+	 * 
+	 * @throws CompletionException if the model failed to load.
+	 */
 	public WindupModel getModel() {
-		return model;
+		return loaded.join();
+	}
+	
+	/**
+	 * Returns a future completed once the model has been loaded. The root of the model, which holds the migration
+	 * paths and configurations, is loaded by a background job. Results are only loaded once they are accessed.
+	 * A model file that cannot be read is set aside, and an empty model is loaded instead. The future only
+	 * completes exceptionally if the model could not be set up at all.
+	 */
+	public CompletableFuture<WindupModel> getModelAsync() {
+		return loaded;
+	}
+	
+	/**
+	 * Returns true if the model has finished loading successfully.
+	 */
+	public boolean isLoaded() {
+		return loaded.isDone() && !loaded.isCompletedExceptionally();
 	}
 	
 	private void loadMigrationPaths() {
@@ -201,54 +382,606 @@ public class ModelService {
 		return cmd.getResultObject();
 	}
 	
+	/**
+	 * Executes the provided runnable in an exclusive transaction of Windup's editing domain, so that the model
+	 * is not modified by background jobs, such as ingestion, while it is being read. Reads may be nested within
+	 * reads and writes on the same thread.
+	 * 
+	 * @return true if the runner executed without throwing an exception, false otherwise.
+	 */
+	public boolean read(Runnable runner) {
+		return Boolean.TRUE.equals(read(() -> {
+			runner.run();
+			return Boolean.TRUE;
+		}));
+	}
+	
+	/**
+	 * Executes the provided supplier in an exclusive transaction of Windup's editing domain.
+	 * 
+	 * @see #read(Runnable)
+	 * @return the result of the supplier, null if an error occurred.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T read(Supplier<T> supplier) {
+		try {
+			return (T)domain.runExclusive(new RunnableWithResult.Impl<T>() {
+				@Override
+				public void run() {
+					try {
+						setResult(supplier.get());
+					} catch (Exception e) {
+						Activator.log(e);
+					}
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+	
+	/**
+	 * Applies a change to the model in a write transaction of Windup's editing domain, bypassing its command
+	 * stack. Used for changes that must not be undoable or retained by the command stack, such as the bulk
+	 * changes of background jobs, or issues being marked fixed or stale. The model is saved once the change is
+	 * committed. Must not be called within {@link #read(Runnable)}, whose transactions are read-only.
+	 *
+	 * @return true if the runner executed without throwing an exception, false otherwise.
+	 */
+	public boolean update(Runnable runner) {
+		Transaction transaction;
+		try {
+			transaction = ((InternalTransactionalEditingDomain)domain).startTransaction(false,
+					Collections.singletonMap(Transaction.OPTION_NO_UNDO, Boolean.TRUE));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		boolean result = true;
+		try {
+			runner.run();
+		} catch (RuntimeException e) {
+			Activator.log(e);
+			result = false;
+		} finally {
+			try {
+				transaction.commit();
+			} catch (RollbackException e) {
+				Activator.log(e);
+				result = false;
+			}
+		}
+		save();
+		return result;
+	}
+	
 	private void load() {
-		File location = getWindupStateLocation();
-		Resource resource = createResource();
-		if (location != null && location.exists()) {
+		File location = getWindupStateLocation(MODEL_FILE);
+		resourceSet = createResourceSet();
+		journal = new ModelJournal(getWindupStateLocation(JOURNAL_FILE));
+		Resource resource = createResource(location);
+		boolean exists = location.exists();
+		if (exists) {
 			try {
 				resource.load(null);
+				model = (WindupModel)resource.getContents().get(0);
+				splitResults();
+				journal.read();
 			} catch (IOException e) {
+				// start from an empty model, the unreadable one is kept rather than overwritten by the next save.
 				Activator.log(e);
-				return;
+				resource.unload();
+				setAside(location);
+				exists = false;
 			}
-			model = (WindupModel)resource.getContents().get(0);
 		}
-		else {
-			model = WindupFactory.eINSTANCE.createWindupModel();
-			resource.getContents().add(model);
-			loadMigrationPaths();
+		if (!exists) {
+			journal.discard();
+			if (!migrateLegacyModel(resource)) {
+				model = WindupFactory.eINSTANCE.createWindupModel();
+				resource.getContents().add(model);
+				loadMigrationPaths();
+			}
 		}
+		assignInputIds();
+		resourceSet.eAdapters().add(journal);
+		journal.replay(resource);
+		domain.getCommandStack().addCommandStackListener(e -> journal.flush());
+		if (migrateTimestamps()) {
+			save();
+		}
+		configurationIndex = new ConfigurationIndex(model);
+		deleteOrphanedResults();
 	}
 	
-	public void save() {
+	private static void setAside(File location) {
+		File unreadable = new File(location.getPath() + UNREADABLE_MODEL_SUFFIX);
+		if (!location.renameTo(unreadable)) {
+			Activator.logErrorMessage("ModelService:: Could not set aside unreadable model: " + location); //$NON-NLS-1$
+		}
+	}
+	
+	/**
+	 * Deletes the result resources and issue stores no input references, such as the stores of discarded results
+	 * that could not be deleted while they were mapped, or results left behind by a session that ended before
+	 * the model was saved.
+	 */
+	private void deleteOrphanedResults() {
+		File[] files = getWindupStateLocation(RESULTS_DIR).listFiles();
+		if (files == null) {
+			return;
+		}
+		Set<String> referenced = Sets.newHashSet();
+		for (ConfigurationElement configuration : model.getConfigurationElements()) {
+			for (Input input : configuration.getInputs()) {
+				List<WindupResult> results = Lists.newArrayList((WindupResult)input.eGet(WindupPackage.eINSTANCE.getInput_WindupResult(), false));
+				((InternalEList<WindupResult>)input.getHistory()).basicIterator().forEachRemaining(results::add);
+				for (WindupResult result : results) {
+					URI uri = result != null ? getResultURI(result) : null;
+					if (uri != null) {
+						referenced.add(uri.trimFileExtension().lastSegment());
+					}
+				}
+			}
+		}
+		for (File file : files) {
+			String name = file.isDirectory() ? file.getName() : FilenameUtils.getBaseName(file.getName());
+			if (!referenced.contains(name)) {
+				if (file.isDirectory()) {
+					ColumnarIssueStore.delete(file);
+				}
+				else if (!file.delete()) {
+					Activator.logErrorMessage("ModelService:: Could not delete unused result: " + file); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Assigns an id to the inputs persisted by previous versions. The id is derived from the input's configuration
+	 * and location, so it is the same on every load until the model is next saved.
+	 */
+	private void assignInputIds() {
+		for (ConfigurationElement configuration : model.getConfigurationElements()) {
+			for (Input input : configuration.getInputs()) {
+				if (input.getId() == null) {
+					input.setId(createId(configuration.getName(), input.getUri()));
+				}
+			}
+		}
+	}
+	
+	private static String createId(Object... parts) {
+		StringBuilder key = new StringBuilder();
+		for (Object part : parts) {
+			key.append(part).append(ID_SEPARATOR);
+		}
+		return UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8)).toString();
+	}
+	
+	/**
+	 * Returns the id of an issue reported by a run, derived from the issue's rule, file and source so that
+	 * an issue reported again by a later run keeps its id, even if its line moved. Issues of a run sharing
+	 * all of these are told apart by their order of occurrence, which is counted by the specified multiset.
+	 */
+	private static String createIssueId(Multiset<String> occurrences, String ruleId, String path, String source) {
+		String key = createId(ruleId, path, source);
+		return createId(key, occurrences.add(key, 1));
+	}
+	
+	/**
+	 * Converts the formatted timestamps of configurations persisted by previous versions
+	 * into the time they were last run.
+	 * 
+	 * @return true if any configuration was migrated, false otherwise.
+	 */
+	private boolean migrateTimestamps() {
+		boolean migrated = false;
+		for (ConfigurationElement configuration : model.getConfigurationElements()) {
+			if (configuration.getTimestamp() != null) {
+				if (configuration.getLastRun() == 0) {
+					try {
+						configuration.setLastRun(new SimpleDateFormat(TIMESTAMP_FORMAT).parse(configuration.getTimestamp()).getTime());
+					} catch (ParseException e) {
+						Activator.log(e);
+					}
+				}
+				configuration.setTimestamp(null);
+				migrated = true;
+			}
+		}
+		return migrated;
+	}
+	
+	/**
+	 * Moves a model persisted by previous versions as XMI into the binary resource and saves it.
+	 * The XMI file is left in place as a backup, but is no longer read once the binary file exists.
+	 * 
+	 * @return true if a legacy model was found and migrated, false otherwise.
+	 */
+	private boolean migrateLegacyModel(Resource resource) {
+		File legacyLocation = getWindupStateLocation(LEGACY_MODEL_FILE);
+		if (!legacyLocation.exists()) {
+			return false;
+		}
+		Resource legacyResource = createResource(legacyLocation);
 		try {
-			model.eResource().save(null);
+			legacyResource.load(null);
 		} catch (IOException e) {
 			Activator.log(e);
+			return false;
+		}
+		model = (WindupModel)legacyResource.getContents().get(0);
+		resource.getContents().add(model);
+		resourceSet.getResources().remove(legacyResource);
+		splitResults();
+		snapshot();
+		return true;
+	}
+	
+	/**
+	 * Moves results still contained in the root resource, as persisted by previous versions,
+	 * into resources of their own.
+	 */
+	private void splitResults() {
+		for (ConfigurationElement configuration : model.getConfigurationElements()) {
+			for (Input input : configuration.getInputs()) {
+				WindupResult result = (WindupResult)input.eGet(WindupPackage.eINSTANCE.getInput_WindupResult(), false);
+				if (result != null && !result.eIsProxy() && result.eResource() == model.eResource()) {
+					PayloadPool pool = new PayloadPool(result);
+					for (Issue issue : result.getIssues()) {
+						if (issue.getId() == null) {
+							issue.setId(EcoreUtil.generateUUID());
+						}
+						PayloadUtil.share(issue);
+						pool.share(issue);
+					}
+					pool.attach();
+					createResultResource(result);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Places the specified result in a resource of its own, which is referenced from the root
+	 * model through a containment proxy and only loaded once the result is accessed.
+	 */
+	private void createResultResource(WindupResult result) {
+		File location = new File(getWindupStateLocation(RESULTS_DIR), EcoreUtil.generateUUID() + '.' + BINARY_EXTENSION);
+		createResource(location).getContents().add(result);
+	}
+	
+	/**
+	 * Schedules the resources of the result held by the specified input, and of the results in its history,
+	 * for deletion on the next save. The results are not resolved, so results that were never loaded stay that way.
+	 */
+	private void discardResult(Input input) {
+		WindupResult result = (WindupResult)input.eGet(WindupPackage.eINSTANCE.getInput_WindupResult(), false);
+		if (result != null) {
+			discardResult(result);
+		}
+		discardHistory(input);
+	}
+	
+	private void discardHistory(Input input) {
+		for (Iterator<WindupResult> iter = ((InternalEList<WindupResult>)input.getHistory()).basicIterator(); iter.hasNext();) {
+			discardResult(iter.next());
+		}
+		input.getHistory().clear();
+	}
+	
+	private void discardResult(WindupResult result) {
+		URI uri = getResultURI(result);
+		if (uri != null) {
+			Resource resource = resourceSet.getResource(uri, false);
+			if (resource != null) {
+				resource.unload();
+				resourceSet.getResources().remove(resource);
+			}
+			discardedResults.add(uri);
+		}
+	}
+	
+	/**
+	 * Returns the URI of the resource holding the specified result, without resolving it.
+	 */
+	private URI getResultURI(WindupResult result) {
+		URI uri = result.eIsProxy() ? ((InternalEObject)result).eProxyURI().trimFragment() : 
+			result.eResource() != null ? result.eResource().getURI() : null;
+		return uri != null && isResultURI(uri) ? uri : null;
+	}
+	
+	/**
+	 * Moves the result held by the specified input into the input's history, where it is kept until the
+	 * history is compacted. The result is not resolved.
+	 */
+	private void archiveResult(Input input) {
+		WindupResult previous = (WindupResult)input.eGet(WindupPackage.eINSTANCE.getInput_WindupResult(), false);
+		if (previous == null) {
+			return;
+		}
+		URI uri = getResultURI(previous);
+		if (uri == null || WindupResourceFactory.getIssueStoreLocation(uri).exists()) {
+			// results kept in an issue store are too large to keep a history of.
+			discardResult(input);
+			return;
+		}
+		input.getHistory().add(0, previous);
+	}
+	
+	/**
+	 * Runs the specified runnable, and returns the result resources that it loaded.
+	 */
+	private Set<Resource> getResolvedResources(Runnable runnable) {
+		Set<Resource> loaded = Sets.newHashSet(Collections2.filter(resourceSet.getResources(), Resource::isLoaded));
+		runnable.run();
+		Set<Resource> resolved = Sets.newHashSet(Collections2.filter(resourceSet.getResources(), Resource::isLoaded));
+		resolved.removeAll(loaded);
+		return resolved;
+	}
+	
+	/**
+	 * Delta-encodes the history of the specified input against its current result, and drops the oldest runs
+	 * exceeding the retention limit.
+	 */
+	private void compactRunHistory(Input input) {
+		// the input may have been deleted since it was run.
+		if (input.eResource() == null || input.getHistory().isEmpty()) {
+			return;
 		}
+		WindupResult latest = input.getWindupResult();
+		if (latest == null) {
+			discardHistory(input);
+			return;
+		}
+		RunHistory.compact(input, latest, RUN_HISTORY_SIZE).forEach(this::discardResult);
+	}
+	
+	/**
+	 * Drops the oldest runs of all inputs while their history exceeds the disk budget. Sizes are those of the runs
+	 * as last saved, so the runs are only resolved once the budget is exceeded.
+	 */
+	private void enforceRunHistoryBudget() {
+		List<WindupResult> runs = Lists.newArrayList();
+		for (ConfigurationElement configuration : model.getConfigurationElements()) {
+			for (Input input : configuration.getInputs()) {
+				((InternalEList<WindupResult>)input.getHistory()).basicIterator().forEachRemaining(runs::add);
+			}
+		}
+		long size = runs.stream().mapToLong(this::getResultSize).sum();
+		if (size <= RUN_HISTORY_BUDGET) {
+			return;
+		}
+		runs.clear();
+		for (ConfigurationElement configuration : model.getConfigurationElements()) {
+			for (Input input : configuration.getInputs()) {
+				runs.addAll(input.getHistory());
+			}
+		}
+		runs.sort(Comparator.comparingLong(WindupResult::getLastRun));
+		for (Iterator<WindupResult> iter = runs.iterator(); iter.hasNext() && size > RUN_HISTORY_BUDGET;) {
+			WindupResult run = iter.next();
+			size -= getResultSize(run);
+			((Input)run.eContainer()).getHistory().remove(run);
+			discardResult(run);
+		}
+	}
+	
+	/**
+	 * Unloads the specified result resources, unless they were changed since they were last saved.
+	 */
+	private void unloadResults(Collection<Resource> resources) {
+		Collection<Resource> replayed = journal.getReplayedResources();
+		for (Resource resource : resources) {
+			if (resource.isLoaded() && !resource.isModified() && !replayed.contains(resource) && isResultURI(resource.getURI())) {
+				resource.unload();
+			}
+		}
+	}
+	
+	private long getResultSize(WindupResult result) {
+		URI uri = getResultURI(result);
+		return uri != null ? new File(uri.toFileString()).length() : 0;
+	}
+	
+	/**
+	 * Returns the issues reported by the specified run, which is either the current result of an input or
+	 * a result in its history. The issues of a run in the history are reconstructed from its delta and the
+	 * result it is encoded against, so the returned issues may belong to several results.
+	 * 
+	 * @return the run's issues, or null if the run can no longer be reconstructed.
+	 */
+	public List<Issue> getRunIssues(WindupResult run) {
+		return RunHistory.getIssues(run);
 	}
 	
-	private Resource createResource() {
+	private boolean isResultURI(URI uri) {
+		return uri.isFile() && uri.segmentCount() > 1 && RESULTS_DIR.equals(uri.trimFragment().trimSegments(1).lastSegment());
+	}
+	
+	/**
+	 * Marks the model dirty and schedules it to be saved in the background. Bursts of changes are
+	 * coalesced into a single save once the model has been idle for a short period.
+	 */
+	public void save() {
+		dirty = true;
+		// rescheduling a sleeping job resets its delay.
+		saveJob.schedule(SAVE_DELAY);
+	}
+	
+	/**
+	 * Saves pending changes on the calling thread. Used on shutdown, where a background save may not get to run.
+	 */
+	public void flush() {
+		if (!isLoaded()) {
+			return;
+		}
+		saveJob.cancel();
+		try {
+			saveJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (dirty) {
+			persist();
+		}
+	}
+	
+	/**
+	 * Persists the changes made to the model since it was last saved. Changes to attributes, such as an
+	 * issue being marked fixed or stale, are appended to the model's journal. Any other change, or a journal
+	 * that has grown too large, causes a snapshot of the model to be saved.
+	 */
+	private synchronized void persist() {
+		Snapshot snapshot;
+		try {
+			// exclude writes made through the editing domain while the journal is flushed.
+			snapshot = (Snapshot)domain.runExclusive(new RunnableWithResult.Impl<Snapshot>() {
+				@Override
+				public void run() {
+					dirty = false;
+					if (journal.isSnapshotRequired() || journal.isCompactionRequired()) {
+						setResult(new Snapshot());
+					}
+					else {
+						journal.flush();
+					}
+				}
+			});
+		} catch (InterruptedException e) {
+			dirty = true;
+			Thread.currentThread().interrupt();
+			return;
+		}
+		if (snapshot != null) {
+			snapshot.write();
+		}
+	}
+	
+	/**
+	 * Saves the root model and each loaded result that changed since it was last saved, then
+	 * truncates the journal.
+	 */
+	private synchronized void snapshot() {
+		new Snapshot().write();
+	}
+	
+	/**
+	 * A snapshot of the root model and of each loaded result that changed since it was last saved. The resources
+	 * are serialized and written one at a time, each in an exclusive section of its own, so that writers are only
+	 * excluded while a single resource is serialized, and only that resource is held in memory. Changes made to a
+	 * resource once it has been serialized are held back by the journal, or leave it modified, and are saved later.
+	 */
+	private class Snapshot {
+		
+		private final List<Resource> resources = Lists.newArrayList();
+		private final Set<URI> discardedResults = Sets.newHashSet(ModelService.this.discardedResults);
+		private boolean complete = true;
+		
+		/**
+		 * Creates a snapshot of the resources to save. Must be called while the model cannot change.
+		 */
+		public Snapshot() {
+			Set<Resource> replayed = Sets.newHashSet(journal.getReplayedResources());
+			for (Resource resource : resourceSet.getResources()) {
+				if (resource.isLoaded() && (resource.isModified() || resource == model.eResource() || replayed.contains(resource))) {
+					resources.add(resource);
+				}
+			}
+			journal.startSnapshot();
+		}
+		
+		/**
+		 * Writes the resources, deletes the results discarded before the snapshot was taken, and truncates
+		 * the journal. A resource that could not be written stays modified, and is saved again shortly.
+		 */
+		public void write() {
+			URIConverter converter = resourceSet.getURIConverter();
+			for (Resource resource : resources) {
+				byte[] bytes;
+				try {
+					bytes = (byte[])domain.runExclusive(new RunnableWithResult.Impl<byte[]>() {
+						@Override
+						public void run() {
+							setResult(serialize(resource));
+						}
+					});
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					complete = false;
+					break;
+				}
+				if (bytes == null) {
+					continue;
+				}
+				try (OutputStream output = converter.createOutputStream(resource.getURI())) {
+					output.write(bytes);
+				} catch (IOException e) {
+					Activator.log(e);
+					resource.setModified(true);
+					complete = false;
+				}
+			}
+			for (URI uri : discardedResults) {
+				try {
+					if (converter.exists(uri, null)) {
+						converter.delete(uri, null);
+					}
+				} catch (IOException e) {
+					Activator.log(e);
+				}
+				// a store that is still mapped is deleted by a later snapshot, or on the next start.
+				if (ColumnarIssueStore.delete(WindupResourceFactory.getIssueStoreLocation(uri))) {
+					ModelService.this.discardedResults.remove(uri);
+				}
+			}
+			journal.finishSnapshot(complete);
+			if (!complete) {
+				save();
+			}
+		}
+		
+		/**
+		 * Serializes the specified resource, or returns null if it was unloaded since the snapshot was created.
+		 */
+		private byte[] serialize(Resource resource) {
+			if (!resource.isLoaded()) {
+				return null;
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try {
+				resource.save(bytes, null);
+				resource.setModified(false);
+				return bytes.toByteArray();
+			} catch (IOException e) {
+				Activator.log(e);
+				complete = false;
+				return null;
+			}
+		}
+	}
+	
+	private ResourceSet createResourceSet() {
 		ResourceSet resourceSet = new ResourceSetImpl();
-        
-        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put
-            (Resource.Factory.Registry.DEFAULT_EXTENSION, 
-             new XMIResourceFactoryImpl());
-        
-        Resource resource = resourceSet.createResource(getStateURI());
-        resource.setTrackingModification(true);
-        return resource;
+		Map<String, Object> factories = resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap();
+		Resource.Factory binaryFactory = new WindupResourceFactory(this::isWriting);
+		factories.put(Resource.Factory.Registry.DEFAULT_EXTENSION, binaryFactory);
+		factories.put(BINARY_EXTENSION, binaryFactory);
+		factories.put(XMI_EXTENSION, new XMIResourceFactoryImpl());
+		return resourceSet;
 	}
 	
-	private URI getStateURI() {
-		return URI.createFileURI(getWindupStateLocation().getAbsolutePath());
+	private Resource createResource(File location) {
+		return resourceSet.createResource(URI.createFileURI(location.getAbsolutePath()));
 	}
 	
-	private File getWindupStateLocation() {
+	private File getWindupStateLocation(String fileName) {
 		File file = null;
 		try {
 			File bundleFile = FileLocator.getBundleFile(Activator.getDefault().getBundle());
-			file = new File(bundleFile, MODEL_FILE);
+			file = new File(bundleFile, fileName);
 			if (file != null) {
 				file = file.getCanonicalFile();
 			}
@@ -257,22 +990,93 @@ public class ModelService {
 		}
 		if (file == null) {
 			// Fall-back to creating it in workspace.
-			file = Activator.getDefault().getStateLocation().append(MODEL_FILE).toFile();
+			file = Activator.getDefault().getStateLocation().append(fileName).toFile();
 		}
 		return file;
 	}
 	
 	public ConfigurationElement findConfigurationElement(String name) {
-		Optional<ConfigurationElement> configuration = model.getConfigurationElements().stream().filter(c -> Objects.equal(name, c.getName())).findFirst();
-		if (configuration.isPresent()) {
-			return configuration.get();
-		}
-		return null;
+		return findConfiguration(name);
+	}
+	
+	/**
+	 * Returns the URI by which a marker references the specified issue of an input's current result. The URI is
+	 * made of the ids of the input and of the issue, so it doesn't change when a later run replaces the result
+	 * and reports the issue again, and the marker of the issue is left as is.
+	 */
+	public String getIssueURI(Issue issue) {
+		Input input = (Input)issue.eContainer().eContainer();
+		return createIssueURI(input, issue.getId());
 	}
 	
+	/**
+	 * Returns the URI by which a marker references the issue in the specified row of the result's issue store,
+	 * which is also the URI of the issue once it is materialized.
+	 */
+	public String getIssueURI(WindupResult result, int row) {
+		return createIssueURI((Input)result.eContainer(), ColumnarIssueStore.getId(row));
+	}
+	
+	private static String createIssueURI(Input input, String issueId) {
+		return URI.createHierarchicalURI(ISSUE_URI_SCHEME, null, null, new String[] {input.getId()}, null, issueId).toString();
+	}
+	
+	/**
+	 * Returns the issue referenced by the specified marker. Issues are referenced by the id of their input
+	 * and their own id, which are resolved through the id indexes of the root resource and of the resource
+	 * of the input's result.
+	 */
 	public Issue findIssue(IMarker marker) {
+		WindupModel model = getModel();
 		URI uri = URI.createURI(marker.getAttribute(WindupMarker.URI_ID, ""));
-		return (Issue)getModel().eResource().getEObject(uri.fragment());
+		// resolving the issue may load its result, which must not race with other threads loading results.
+		Supplier<Issue> resolver = () -> {
+			if (ISSUE_URI_SCHEME.equals(uri.scheme())) {
+				EObject input = uri.segmentCount() == 1 ? model.eResource().getEObject(uri.segment(0)) : null;
+				WindupResult result = input instanceof Input ? ((Input)input).getWindupResult() : null;
+				return result != null && uri.fragment() != null ? (Issue)result.eResource().getEObject(uri.fragment()) : null;
+			}
+			// Markers created by previous versions reference issues through the URI of their result, or the root resource.
+			if (isResultURI(uri)) {
+				return (Issue)resourceSet.getEObject(uri, true);
+			}
+			// Markers created by previous versions reference issues through the root resource.
+			return (Issue)model.eResource().getEObject(uri.fragment());
+		};
+		Issue issue = read(resolver);
+		if (issue == null && uri.fragment() != null && ColumnarIssueStore.getRow(uri.fragment()) != -1 && !isInTransaction()) {
+			// the issue is held in its result's store, and is materialized into the result by a write.
+			List<Issue> materialized = Lists.newArrayList();
+			update(() -> materialized.add(resolver.get()));
+			issue = !materialized.isEmpty() ? materialized.get(0) : null;
+		}
+		return issue;
+	}
+	
+	/**
+	 * Returns true if the calling thread may change the model: it holds a write transaction of Windup's editing
+	 * domain, or is replaying the journal onto a result being loaded. Rows of issue stores are only materialized
+	 * into their result then.
+	 */
+	private boolean isWriting() {
+		if (journal != null && journal.isReplaying()) {
+			return true;
+		}
+		for (Transaction transaction = ((InternalTransactionalEditingDomain)domain).getActiveTransaction();
+				transaction != null; transaction = transaction.getParent()) {
+			if (!transaction.isReadOnly()) {
+				return transaction.getOwner() == Thread.currentThread();
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns true if the calling thread is within a read or write transaction of Windup's editing domain.
+	 */
+	private boolean isInTransaction() {
+		Transaction transaction = ((InternalTransactionalEditingDomain)domain).getActiveTransaction();
+		return transaction != null && transaction.getOwner() == Thread.currentThread();
 	}
 	
 	public org.jboss.tools.windup.windup.Hint findHint(IMarker marker) {
@@ -284,7 +1088,8 @@ public class ModelService {
 	}
 	
 	public void deleteConfiguration(ConfigurationElement configuration) {
-		model.getConfigurationElements().remove(configuration);
+		configuration.getInputs().forEach(this::discardResult);
+		getModel().getConfigurationElements().remove(configuration);
 		broker.post(CONFIG_DELETED, configuration);
 	}
 	
@@ -295,14 +1100,16 @@ public class ModelService {
 		configuration.setGeneratedReportsLocation(getGeneratedReportsBaseLocation(configuration).toOSString());
 		configuration.setSourceMode(true);
 		configuration.setGenerateReport(true);
-		configuration.setMigrationPath(model.getMigrationPaths().get(1));
-		model.getConfigurationElements().add(configuration);
+		configuration.setMigrationPath(getModel().getMigrationPaths().get(1));
+		getModel().getConfigurationElements().add(configuration);
 		return configuration;
 	}
 	
 	public void createInput(ConfigurationElement configuration, List<IProject> projects) {
 		projects.forEach(project -> {
 			Input input = WindupFactory.eINSTANCE.createInput();
+			// assigned before the input is attached so that its resource indexes it by id.
+			input.setId(EcoreUtil.generateUUID());
 			URI uri = WorkspaceResourceUtils.createPlatformPluginURI(project.getFullPath());
 			input.setName(project.getName());
 			input.setUri(uri.toString());
@@ -316,6 +1123,7 @@ public class ModelService {
 				return i.getName().equals(project.getName());
 			}).findFirst();
 			if (input.isPresent()) {
+				discardResult(input.get());
 				configuration.getInputs().remove(input.get());
 			}
 		});
@@ -338,16 +1146,16 @@ public class ModelService {
 	}
 	
 	public void addRuleRepository(String location) {
-		if (!model.getCustomRuleRepositories().stream().anyMatch(repo -> repo.getLocation().equals(location))) {
+		if (!getModel().getCustomRuleRepositories().stream().anyMatch(repo -> repo.getLocation().equals(location))) {
 			RuleRepository repo = WindupFactory.eINSTANCE.createRuleRepository();
 			repo.setLocation(location);
-			model.getCustomRuleRepositories().add(repo);
+			getModel().getCustomRuleRepositories().add(repo);
 		}
 	}
 	
 	public List<String> computeExistingRepositories() {
 		List<String> repos = Lists.newArrayList();
-		model.getCustomRuleRepositories().forEach(repo -> {
+		getModel().getCustomRuleRepositories().forEach(repo -> {
 			repos.add(repo.getLocation());
 		});
 		return repos;
@@ -371,6 +1179,7 @@ public class ModelService {
 			Input input = iter.next();
 			IResource resource = WorkspaceResourceUtils.findResource(input.getUri());
 			if (resource == null || !resource.exists()) {
+				discardResult(input);
 				iter.remove();
 			}
 		}
@@ -378,20 +1187,18 @@ public class ModelService {
 	
 	public void addDirtyListener(Consumer<Boolean> runner) {
 		domain.getCommandStack().addCommandStackListener((e) -> {
-			runner.accept(model.eResource().isModified());
+			runner.accept(getModel().eResource().isModified());
 		});
 	}
 	
 	@PreDestroy
 	private void dispose() {
-		save();
+		flush();
 	}
 	
 	public ConfigurationElement findConfiguration(String name) {
-		Optional<ConfigurationElement> found = model.getConfigurationElements().stream().filter(configuration -> {
-			return Objects.equal(configuration.getName(), name);
-		}).findFirst();
-		return found.isPresent() ? found.get() : null;
+		getModel();
+		return configurationIndex != null ? configurationIndex.find(name) : null;
 	}
 	
 	public IPath getReportPath(ConfigurationElement configuration) {
@@ -427,18 +1234,67 @@ public class ModelService {
 		return getResource(issue.getFileAbsolutePath());
 	}
 	
-	private static IFile getResource(String path) {
+	public static IFile getResource(String path) {
 		return ResourcesPlugin.getWorkspace().getRoot().getFileForLocation(new Path(path));
 	}
+
+	/**
+	 * Returns the configuration that generated the specified issue, or null if the issue is no longer part of the model.
+	 */
+	public static ConfigurationElement getConfiguration(Issue issue) {
+		EObject result = issue.eContainer();
+		EObject input = result != null ? result.eContainer() : null;
+		EObject configuration = input != null ? input.eContainer() : null;
+		return configuration instanceof ConfigurationElement ? (ConfigurationElement)configuration : null;
+	}
+
+	/**
+	 * Returns the inputs of all configurations that analyze the specified project.
+	 * Must be called within a {@link #read(Runnable)}.
+	 */
+	public List<Input> getInputs(IProject project) {
+		List<Input> inputs = Lists.newArrayList();
+		for (ConfigurationElement configuration : model.getConfigurationElements()) {
+			for (Input input : configuration.getInputs()) {
+				if (project.getName().equals(input.getName())) {
+					inputs.add(input);
+				}
+			}
+		}
+		return inputs;
+	}
 	
 	/**
 	 * Populates the configuration element with the execution results.
+	 * 
+	 * Everything needed from the results is copied into the model; no reference to the results
+	 * is retained so that the server-side result graph can be reclaimed once ingestion completes.
+	 * Issues are built outside of any transaction, and attached to the model in batches, each
+	 * in a short write transaction, so that readers are not locked out for the whole ingestion.
 	 */
 	public void populateConfiguration(ConfigurationElement configuration, Input input, ExecutionResults results) {
     	WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
-        result.setExecutionResults(results);
-        input.setWindupResult(result);
-        configuration.setTimestamp(createTimestamp());
+    	boolean columnar = results.getHints().size() > COLUMNAR_STORE_THRESHOLD;
+    	update(() -> {
+    		if (columnar) {
+    			discardResult(input);
+    		}
+    		else {
+    			archiveResult(input);
+    		}
+    		input.setWindupResult(result);
+    		createResultResource(result);
+    		configuration.setLastRun(System.currentTimeMillis());
+    		result.setLastRun(configuration.getLastRun());
+    	});
+        if (columnar) {
+        	populateIssueStore(result, results);
+        	return;
+        }
+        Map<File, String> reports = getReports(results);
+        PayloadPool pool = new PayloadPool(result);
+        List<Issue> batch = Lists.newArrayListWithCapacity(INGESTION_BATCH_SIZE);
+        Multiset<String> occurrences = HashMultiset.create();
         for (Hint wHint : results.getHints()) {
         	String path = wHint.getFile().getAbsolutePath();
         	IFile resource = ModelService.getResource(path);
@@ -448,96 +1304,151 @@ public class ModelService {
 			}
 			
         	org.jboss.tools.windup.windup.Hint hint = WindupFactory.eINSTANCE.createHint();
-        	result.getIssues().add(hint);
-        	
         	String line = DocumentUtils.getLine(resource, wHint.getLineNumber()-1);
+        	// assigned before the hint is attached so that its resource indexes it by id.
+        	hint.setId(createIssueId(occurrences, wHint.getRuleID(), path, line));
         	hint.setOriginalLineSource(line);
 
         	for (Quickfix fix : wHint.getQuickfixes()) {
-        		org.jboss.tools.windup.windup.QuickFix quickFix = WindupFactory.eINSTANCE.createQuickFix();
-        		quickFix.setName(fix.getName());
-        		quickFix.setQuickFixType(fix.getType().toString());
-        		quickFix.setSearchString(fix.getSearch());
-        		quickFix.setReplacementString(fix.getReplacement());
-        		quickFix.setNewLine(fix.getNewline());
-        		hint.getQuickFixes().add(quickFix);
+        		hint.getSharedQuickFixes().add(pool.getQuickFix(fix.getName(), fix.getType().toString(), 
+        				fix.getSearch(), fix.getReplacement(), fix.getNewline()));
         	}
 
         	// TODO: I think we might want to change this to project relative for portability.
-        	hint.setFileAbsolutePath(wHint.getFile().getAbsolutePath());
-        	hint.setSeverity(wHint.getIssueCategory().getCategoryID().toUpperCase());
-        	hint.setRuleId(wHint.getRuleID());
+        	hint.setFileAbsolutePath(PayloadUtil.intern(path));
+        	hint.setSeverity(PayloadUtil.intern(wHint.getIssueCategory().getCategoryID().toUpperCase()));
+        	hint.setRuleId(PayloadUtil.intern(wHint.getRuleID()));
         	hint.setEffort(wHint.getEffort());
         	
-        	hint.setTitle(wHint.getTitle());
-        	hint.setHint(wHint.getHint());
+        	hint.setTitle(PayloadUtil.intern(wHint.getTitle()));
+        	hint.setHint(PayloadUtil.intern(wHint.getHint()));
         	hint.setLineNumber(wHint.getLineNumber());
         	hint.setColumn(wHint.getColumn());
         	hint.setLength(wHint.getLength());
         	hint.setSourceSnippet(wHint.getSourceSnippit());
         	
         	for (Link wLink : wHint.getLinks()) {
-        		org.jboss.tools.windup.windup.Link link = WindupFactory.eINSTANCE.createLink();
-        		link.setDescription(wLink.getDescription());
-        		link.setUrl(wLink.getUrl());
-        		hint.getLinks().add(link);
+        		hint.getSharedLinks().add(pool.getLink(wLink.getDescription(), wLink.getUrl()));
+        	}
+        	
+        	String report = reports.get(resource.getRawLocation().toFile());
+        	if (report != null) {
+        		hint.setGeneratedReportLocation(report);
+        	}
+        	
+        	batch.add(hint);
+        	if (batch.size() == INGESTION_BATCH_SIZE) {
+        		attachIssues(result, pool, batch);
+        		batch = Lists.newArrayListWithCapacity(INGESTION_BATCH_SIZE);
         	}
         }
+        attachIssues(result, pool, batch);
         
         // TODO: Classifications
-        linkReports(results, result.getIssues());
+        if (!input.getHistory().isEmpty()) {
+        	uncompactedInputs.add(input);
+        	historyJob.schedule(RUN_HISTORY_DELAY);
+        }
 	}
 	
-	private void linkReports(ExecutionResults results, List<Issue> issues) {
-		for (Issue issue : issues) {
-			IFile resource = ModelService.getIssueResource(issue);
-			if (resource == null) {
-				Activator.logErrorMessage("ModelService:: No resource associated with issue file: " + issue.getFileAbsolutePath());
-				continue;
-			}
-			File file = resource.getRawLocation().toFile();
-			for (ReportLink link : results.getReportLinks()) {
-				if (link.getInputFile().equals(file)) {
-					File report = link.getReportFile();
-					issue.setGeneratedReportLocation(report.getAbsolutePath());
-					break;
+	private void attachIssues(WindupResult result, PayloadPool pool, List<Issue> issues) {
+		if (!issues.isEmpty()) {
+			update(() -> {
+				pool.attach();
+				result.getIssues().addAll(issues);
+			});
+		}
+	}
+	
+	/**
+	 * Writes the hints of the execution results to a {@link ColumnarIssueStore} beside the result's resource.
+	 * The result itself holds no issues until the UI materializes them from the store.
+	 */
+	private void populateIssueStore(WindupResult result, ExecutionResults results) {
+		Map<File, String> reports = getReports(results);
+		File location = WindupResourceFactory.getIssueStoreLocation(result.eResource().getURI());
+		try (ColumnarIssueStore.Writer writer = new ColumnarIssueStore.Writer(location)) {
+			for (Hint wHint : results.getHints()) {
+				String path = wHint.getFile().getAbsolutePath();
+				IFile resource = ModelService.getResource(path);
+				if (resource == null) {
+					Activator.logErrorMessage("ModelService:: No workspace resource associated with file: " + path); //$NON-NLS-1$
+					continue;
 				}
+				String line = DocumentUtils.getLine(resource, wHint.getLineNumber()-1);
+				writer.add(wHint, path, line, reports.get(resource.getRawLocation().toFile()));
 			}
+		} catch (IOException e) {
+			// a partially written store can't be read back.
+			Activator.log(e);
+			ColumnarIssueStore.delete(location);
 		}
 	}
 	
-	private SimpleDateFormat getTimestampFormat() {
-		return new SimpleDateFormat(TIMESTAMP_FORMAT);
+	/**
+	 * Returns the issue store of the specified result, or null if all of its issues are held in the model.
+	 */
+	public ColumnarIssueStore getIssueStore(WindupResult result) {
+		Resource resource = result.eResource();
+		return resource instanceof WindupResourceFactory.WindupResource ? 
+				((WindupResourceFactory.WindupResource)resource).getIssueStore() : null;
 	}
 	
-	public String createTimestamp() {
-		return getTimestampFormat().format(new Date());
+	/**
+	 * Returns the number of issues in the result's store that have not been materialized into the result.
+	 */
+	public int getStoredIssueCount(WindupResult result) {
+		ColumnarIssueStore store = getIssueStore(result);
+		return store != null ? store.size() - ((WindupResourceFactory.WindupResource)result.eResource()).getMaterializedCount() : 0;
 	}
 	
-	private Date getTimestamp(ConfigurationElement configuration) {
-		try {
-			return new SimpleDateFormat(TIMESTAMP_FORMAT).parse(configuration.getTimestamp());
-		} catch (ParseException e) {
-			Activator.log(e);
+	/**
+	 * Returns the rows of the result's store that hold the issues of the specified file, or null if it holds none.
+	 * A store never changes once written, so its rows are indexed by file the first time they are looked up.
+	 */
+	public int[] getStoredRows(WindupResult result, IFile file) {
+		ColumnarIssueStore store = getIssueStore(result);
+		return store != null ? storeIndexes.computeIfAbsent(store, ModelService::indexStore).get(file) : null;
+	}
+	
+	private static Map<IFile, int[]> indexStore(ColumnarIssueStore store) {
+		// the store's strings are interned, so rows are grouped by path before the paths are resolved.
+		ListMultimap<String, Integer> rows = ArrayListMultimap.create();
+		for (int row = 0; row < store.size(); row++) {
+			rows.put(store.getFileAbsolutePath(row), row);
 		}
-		return null;
+		Map<IFile, int[]> index = Maps.newHashMap();
+		for (String path : rows.keySet()) {
+			IFile file = getResource(path);
+			if (file != null) {
+				index.put(file, Ints.toArray(rows.get(path)));
+			}
+		}
+		return index;
 	}
 	
-	public ConfigurationElement getRecentConfiguration() {
-		ConfigurationElement mostRecentConfiguration = null;
-		for (ConfigurationElement configuration : getModel().getConfigurationElements()) {
-			if (mostRecentConfiguration == null) {
-				mostRecentConfiguration = configuration;
-			}
-			else if (!mostRecentConfiguration.getName().equals(configuration.getName()) &&
-					mostRecentConfiguration.getTimestamp() != null && configuration.getTimestamp() != null) {
-				Date thisTime = getTimestamp(mostRecentConfiguration);
-				Date otherTime = getTimestamp(configuration);
-				if (thisTime.before(otherTime)) {
-					mostRecentConfiguration = configuration;
-				}
+	/**
+	 * Returns true if the issue in the specified row of the result's store has been materialized into the result.
+	 */
+	public boolean isMaterialized(WindupResult result, int row) {
+		return ((WindupResourceFactory.WindupResource)result.eResource()).isMaterialized(row);
+	}
+	
+	private Map<File, String> getReports(ExecutionResults results) {
+		Map<File, String> reports = Maps.newHashMap();
+		for (ReportLink link : results.getReportLinks()) {
+			if (!reports.containsKey(link.getInputFile())) {
+				reports.put(link.getInputFile(), PayloadUtil.intern(link.getReportFile().getAbsolutePath()));
 			}
 		}
-		return mostRecentConfiguration;
+		return reports;
+	}
+	
+	/**
+	 * Returns the configuration that was run most recently, or the first configuration if none has been run.
+	 */
+	public ConfigurationElement getRecentConfiguration() {
+		getModel();
+		return configurationIndex != null ? configurationIndex.getRecent() : null;
 	}
 }
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.jboss.tools.windup.model.util.PayloadPool;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupResult;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.Sets;
+
+/**
+ * Encodes the results kept in an input's history as deltas against the input's current result.
+ *
+ * Consecutive runs mostly report the same issues, so a result in the history only holds the issues
+ * its run reported that the current result does not, along with the keys of the current result's
+ * issues that its run did not report. Issues are matched across runs by their rule, file and source, but not
+ * their line, so that an issue whose line moved, as the file was edited between runs, is still shared.
+ * 
+ * A shared issue is returned for a run with the line and state the run reported it with, rather than those of
+ * the current result's issue, which change as that issue moves or gets fixed. Where they differ from the line
+ * the current result's issue was reported at, and its initial state, the run's line and state are kept in
+ * the run's {@link WindupResult#getSharedIssueStates() shared issue states}, and the run gets copies of the
+ * shared issues carrying them.
+ */
+class RunHistory {
+
+	private static final char SEPARATOR = '\u0000';
+	private static final Joiner JOINER = Joiner.on(SEPARATOR);
+	private static final Splitter SPLITTER = Splitter.on(SEPARATOR);
+
+	private static final int FIXED = 1;
+	private static final int STALE = 2;
+	private static final int DELETED = 4;
+
+	/**
+	 * Returns the key identifying the specified issue across runs.
+	 */
+	public static String getKey(Issue issue) {
+		StringBuilder key = new StringBuilder();
+		key.append(issue.getRuleId()).append(SEPARATOR);
+		key.append(issue.getFileAbsolutePath()).append(SEPARATOR);
+		key.append(issue.getOriginalLineSource());
+		return key.toString();
+	}
+
+	/**
+	 * Returns the issues reported by the run of the specified result, or null if the result it is encoded
+	 * against no longer exists. Issues shared with that result are returned as the base result's issues,
+	 * or as copies of them if the run reported them with another line or state.
+	 */
+	public static List<Issue> getIssues(WindupResult result) {
+		return getIssues(result, Sets.newHashSet());
+	}
+
+	private static List<Issue> getIssues(WindupResult result, Set<WindupResult> visited) {
+		if (result.getDeltaBase() == 0) {
+			return Lists.newArrayList(result.getIssues());
+		}
+		WindupResult base = findBase(result);
+		if (base == null || !visited.add(result)) {
+			return null;
+		}
+		List<Issue> baseIssues = getIssues(base, visited);
+		if (baseIssues == null) {
+			return null;
+		}
+		Multiset<String> omitted = HashMultiset.create(result.getOmittedIssueKeys());
+		Map<String, String> states = Maps.newHashMap();
+		for (String entry : result.getSharedIssueStates()) {
+			// occurrence, line, original line, flags and key.
+			List<String> values = SPLITTER.limit(5).splitToList(entry);
+			states.put(JOINER.join(values.get(4), values.get(0)), JOINER.join(values.subList(1, 4)));
+		}
+		Multiset<String> occurrences = HashMultiset.create();
+		List<Issue> issues = Lists.newArrayList();
+		for (Issue issue : baseIssues) {
+			String key = getKey(issue);
+			int occurrence = occurrences.add(key, 1);
+			if (!omitted.remove(key)) {
+				String state = states.get(JOINER.join(key, occurrence));
+				issues.add(withState(issue, state != null ? state : getReportedState(issue)));
+			}
+		}
+		issues.addAll(result.getIssues());
+		return issues;
+	}
+
+	/**
+	 * Returns the line, original line and fixed, stale and deleted flags of the specified issue.
+	 */
+	private static String getState(Issue issue) {
+		int flags = (issue.isFixed() ? FIXED : 0) | (issue.isStale() ? STALE : 0) | (issue.isDeleted() ? DELETED : 0);
+		if (issue instanceof Hint) {
+			Hint hint = (Hint)issue;
+			return JOINER.join(hint.getLineNumber(), hint.getOriginalLineNumber(), flags);
+		}
+		return JOINER.join(0, 0, flags);
+	}
+
+	/**
+	 * Returns the state the specified issue was reported with, at its original line, and neither fixed, stale nor deleted.
+	 */
+	private static String getReportedState(Issue issue) {
+		int line = 0;
+		if (issue instanceof Hint) {
+			Hint hint = (Hint)issue;
+			line = hint.getOriginalLineNumber() != 0 ? hint.getOriginalLineNumber() : hint.getLineNumber();
+		}
+		return JOINER.join(line, 0, 0);
+	}
+
+	/**
+	 * Returns the specified issue if it is in the specified state, and otherwise a copy of it in that state.
+	 */
+	private static Issue withState(Issue issue, String state) {
+		if (state.equals(getState(issue))) {
+			return issue;
+		}
+		List<String> values = SPLITTER.splitToList(state);
+		Issue copy = EcoreUtil.copy(issue);
+		if (copy instanceof Hint) {
+			((Hint)copy).setLineNumber(Integer.parseInt(values.get(0)));
+			((Hint)copy).setOriginalLineNumber(Integer.parseInt(values.get(1)));
+		}
+		int flags = Integer.parseInt(values.get(2));
+		copy.setFixed((flags & FIXED) != 0);
+		copy.setStale((flags & STALE) != 0);
+		copy.setDeleted((flags & DELETED) != 0);
+		return copy;
+	}
+
+	private static WindupResult findBase(WindupResult result) {
+		EObject container = result.eContainer();
+		if (!(container instanceof Input)) {
+			return null;
+		}
+		Input input = (Input)container;
+		List<WindupResult> candidates = Lists.newArrayList(input.getWindupResult());
+		candidates.addAll(input.getHistory());
+		for (WindupResult candidate : candidates) {
+			if (candidate != null && candidate != result && candidate.getLastRun() == result.getDeltaBase()) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Drops the runs exceeding the retention limit from the input's history, and encodes the remaining
+	 * runs against the input's current result.
+	 *
+	 * @return the runs removed from the history, whose resources should be discarded.
+	 */
+	public static List<WindupResult> compact(Input input, WindupResult latest, int retention) {
+		List<WindupResult> history = input.getHistory();
+		List<WindupResult> removed = Lists.newArrayList();
+		while (history.size() > retention) {
+			removed.add(history.remove(history.size() - 1));
+		}
+		// Reconstruct every run before re-encoding any, runs may be encoded against each other.
+		Map<WindupResult, List<Issue>> runs = Maps.newLinkedHashMap();
+		for (WindupResult run : Lists.newArrayList(history)) {
+			if (run.getDeltaBase() != 0 && run.getDeltaBase() == latest.getLastRun()) {
+				continue;
+			}
+			List<Issue> issues = getIssues(run);
+			if (issues != null) {
+				runs.put(run, issues);
+			}
+			else {
+				history.remove(run);
+				removed.add(run);
+			}
+		}
+		runs.forEach((run, issues) -> encode(run, issues, latest));
+		return removed;
+	}
+
+	private static void encode(WindupResult run, List<Issue> issues, WindupResult base) {
+		Multiset<String> baseKeys = HashMultiset.create();
+		for (Issue issue : base.getIssues()) {
+			baseKeys.add(getKey(issue));
+		}
+		ListMultimap<String, Issue> reported = ArrayListMultimap.create();
+		for (Issue issue : issues) {
+			reported.put(getKey(issue), issue);
+		}
+		Multiset<String> omitted = HashMultiset.create();
+		for (Multiset.Entry<String> entry : baseKeys.entrySet()) {
+			omitted.add(entry.getElement(), Math.max(0, entry.getCount() - reported.get(entry.getElement()).size()));
+		}
+		// the base issues left once the first omitted ones of each key are dropped are paired with the run's in order.
+		Set<Issue> shared = Sets.newIdentityHashSet();
+		List<String> states = Lists.newArrayList();
+		Multiset<String> occurrences = HashMultiset.create();
+		for (Issue baseIssue : base.getIssues()) {
+			String key = getKey(baseIssue);
+			int occurrence = occurrences.add(key, 1);
+			if (occurrence < omitted.count(key)) {
+				continue;
+			}
+			Issue issue = reported.get(key).remove(0);
+			shared.add(issue);
+			String state = getState(issue);
+			if (!state.equals(getReportedState(baseIssue))) {
+				states.add(JOINER.join(occurrence, state, key));
+			}
+		}
+		PayloadPool pool = new PayloadPool(run);
+		List<Issue> unique = Lists.newArrayList();
+		for (Issue issue : issues) {
+			if (!shared.contains(issue)) {
+				if (issue.eContainer() == run) {
+					unique.add(issue);
+				}
+				else {
+					// the copy still references the payloads of the result it was copied from.
+					Issue copy = EcoreUtil.copy(issue);
+					pool.share(copy);
+					unique.add(copy);
+				}
+			}
+		}
+		ECollections.setEList(run.getIssues(), unique);
+		pool.prune();
+		ECollections.setEList(run.getOmittedIssueKeys(), Lists.newArrayList(omitted));
+		ECollections.setEList(run.getSharedIssueStates(), states);
+		run.setDeltaBase(base.getLastRun());
+	}
+}
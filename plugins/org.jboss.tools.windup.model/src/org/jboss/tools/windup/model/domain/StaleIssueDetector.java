@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.e4.core.di.annotations.Creatable;
+import org.jboss.tools.windup.model.Activator;
+import org.jboss.tools.windup.model.domain.IssueIndexService.State;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupResult;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Service tracking the flagged lines of issues as their files are edited, and detecting the issues whose
+ * flagged line of code no longer exists.
+ *
+ * A changed file is read once, and all of its issues are checked against its lines in a single pass, rather
+ * than the file being read again for each issue. Only the configurations whose inputs analyze the file's project
+ * are looked at: their active issues are looked up through the {@link IssueIndexService}, and the rows of their
+ * {@link ColumnarIssueStore}s through the store's file index, see {@link ModelService#getStoredRows(WindupResult, IFile)}.
+ * Only the rows that changed are materialized.
+ *
+ * An issue whose flagged line was moved by edits elsewhere in the file is re-anchored to the nearest line
+ * with the same source, provided it moved by no more than {@link #MAX_LINE_DISTANCE} lines. Only issues
+ * whose flagged line no longer exists are stale. The line an issue was re-anchored to is written to the model,
+ * where it is journaled like any other attribute change, so it survives restarts. The line Windup reported is
+ * kept as the hint's original line number.
+ */
+@Singleton
+@Creatable
+public class StaleIssueDetector {
+
+	/**
+	 * Maximum number of lines an issue's flagged line may move and still be re-anchored.
+	 */
+	private static final int MAX_LINE_DISTANCE = 200;
+
+	@Inject private ModelService modelService;
+	@Inject private IssueIndexService indexService;
+
+	/**
+	 * Checks the active hints of the specified file against the file's current content. Hints whose flagged
+	 * line moved are re-anchored to their new line, and hints whose flagged line no longer exists are reported as stale.
+	 */
+	public Changes detectChanges(IFile file) {
+		Changes changes = new Changes();
+		List<Input> inputs = modelService.read(() -> modelService.getInputs(file.getProject()));
+		if (inputs == null || inputs.isEmpty()) {
+			return changes;
+		}
+		List<Hint> hints = getActiveHints(file, inputs);
+		Map<WindupResult, int[]> storedRows = getStoredRows(file, inputs);
+		if (hints.isEmpty() && storedRows.isEmpty()) {
+			return changes;
+		}
+		List<String> lines = readLines(file);
+		if (lines == null) {
+			return changes;
+		}
+		LineLocator locator = new LineLocator(lines);
+		modelService.read(() -> hints.forEach(hint -> detectChange(hint, locator, changes)));
+		storedRows.forEach((result, rows) -> detectChanges(result, rows, locator, changes));
+		if (!changes.getMoved().isEmpty()) {
+			modelService.update(() -> changes.getMoved().forEach(StaleIssueDetector::reanchor));
+		}
+		return changes;
+	}
+
+	/**
+	 * Returns the active hints of the file in the configurations the specified inputs belong to.
+	 */
+	private List<Hint> getActiveHints(IFile file, List<Input> inputs) {
+		Set<ConfigurationElement> configurations = Sets.newLinkedHashSet();
+		modelService.read(() -> inputs.forEach(input -> configurations.add((ConfigurationElement)input.eContainer())));
+		List<Hint> hints = Lists.newArrayList();
+		for (ConfigurationElement configuration : configurations) {
+			for (Issue issue : indexService.query().configuration(configuration).file(file).state(State.ACTIVE).list()) {
+				if (issue instanceof Hint) {
+					hints.add((Hint)issue);
+				}
+			}
+		}
+		return hints;
+	}
+
+	private static void reanchor(Hint hint, int lineNumber) {
+		if (hint.getOriginalLineNumber() == 0) {
+			hint.setOriginalLineNumber(hint.getLineNumber());
+		}
+		hint.setLineNumber(lineNumber);
+	}
+
+	private static void detectChange(Hint hint, LineLocator locator, Changes changes) {
+		int lineNumber = hint.getLineNumber();
+		String source = hint.getOriginalLineSource();
+		if (source != null && source.equals(locator.getLine(lineNumber))) {
+			return;
+		}
+		int moved = source != null ? locator.find(source, lineNumber) : -1;
+		if (moved != -1) {
+			changes.getMoved().put(hint, moved);
+		}
+		else {
+			changes.getStale().add(hint);
+		}
+	}
+
+	/**
+	 * Returns the rows of the file's issues that are held in the issue stores of the current results of the specified inputs.
+	 */
+	private Map<WindupResult, int[]> getStoredRows(IFile file, List<Input> inputs) {
+		Map<WindupResult, int[]> storedRows = Maps.newHashMap();
+		modelService.read(() -> {
+			for (Input input : inputs) {
+				WindupResult result = input.getWindupResult();
+				int[] rows = result != null ? modelService.getStoredRows(result, file) : null;
+				if (rows != null) {
+					storedRows.put(result, rows);
+				}
+			}
+		});
+		return storedRows;
+	}
+
+	private void detectChanges(WindupResult result, int[] rows, LineLocator locator, Changes changes) {
+		ColumnarIssueStore store = modelService.getIssueStore(result);
+		Map<Integer, Integer> moved = Maps.newHashMap();
+		List<Integer> stale = Lists.newArrayList();
+		for (int row : rows) {
+			// materialized rows are model issues, which are checked through the line index.
+			if (modelService.isMaterialized(result, row)) {
+				continue;
+			}
+			int lineNumber = store.getLineNumber(row);
+			String source = store.getOriginalLineSource(row);
+			if (source == null || !source.equals(locator.getLine(lineNumber))) {
+				int line = source != null ? locator.find(source, lineNumber) : -1;
+				if (line != -1) {
+					moved.put(row, line);
+				}
+				else {
+					stale.add(row);
+				}
+			}
+		}
+		if (!moved.isEmpty() || !stale.isEmpty()) {
+			// only the rows that changed are materialized, which changes their result.
+			modelService.update(() -> {
+				moved.forEach((row, line) -> changes.getMoved().put(materialize(result, row), line));
+				stale.forEach(row -> changes.getStale().add(materialize(result, row)));
+			});
+		}
+	}
+
+	private static Hint materialize(WindupResult result, int row) {
+		return (Hint)result.eResource().getEObject(ColumnarIssueStore.getId(row));
+	}
+
+	private static List<String> readLines(IFile file) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getContents(true), file.getCharset()))) {
+			List<String> lines = Lists.newArrayList();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+			return lines;
+		} catch (IOException | CoreException e) {
+			Activator.log(e);
+		}
+		return null;
+	}
+
+	/**
+	 * The changes to the flagged lines of a file's issues.
+	 */
+	public static class Changes {
+
+		private final List<Hint> stale = Lists.newArrayList();
+		private final Map<Hint, Integer> moved = Maps.newLinkedHashMap();
+
+		/**
+		 * Returns the hints whose flagged line no longer exists.
+		 */
+		public List<Hint> getStale() {
+			return stale;
+		}
+
+		/**
+		 * Returns the hints whose flagged line moved, mapped to the line they were re-anchored to.
+		 */
+		public Map<Hint, Integer> getMoved() {
+			return moved;
+		}
+
+		public boolean isEmpty() {
+			return stale.isEmpty() && moved.isEmpty();
+		}
+	}
+
+	/**
+	 * The lines of a file's current content.
+	 */
+	private static class LineLocator {
+
+		private final List<String> lines;
+		private ListMultimap<String, Integer> lineNumbers;
+
+		public LineLocator(List<String> lines) {
+			this.lines = lines;
+		}
+
+		/**
+		 * Returns the line at the specified line number, or null if the file is shorter.
+		 */
+		public String getLine(int lineNumber) {
+			return lineNumber > 0 && lineNumber <= lines.size() ? lines.get(lineNumber-1) : null;
+		}
+
+		/**
+		 * Returns the number of the line with the specified source that is closest to the specified line number,
+		 * or -1 if there is none close enough.
+		 */
+		public int find(String source, int lineNumber) {
+			if (lineNumbers == null) {
+				// only index the lines once an issue's line moved.
+				lineNumbers = ArrayListMultimap.create();
+				for (int i = 0; i < lines.size(); i++) {
+					lineNumbers.put(lines.get(i), i+1);
+				}
+			}
+			int closest = -1;
+			int closestDistance = Integer.MAX_VALUE;
+			for (int candidate : lineNumbers.get(source)) {
+				int distance = Math.abs(candidate - lineNumber);
+				if (distance < closestDistance) {
+					closest = candidate;
+					closestDistance = distance;
+				}
+			}
+			return closestDistance <= MAX_LINE_DISTANCE ? closest : -1;
+		}
+	}
+}
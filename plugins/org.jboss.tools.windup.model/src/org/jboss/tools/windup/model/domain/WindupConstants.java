@@ -31,6 +31,14 @@ public interface WindupConstants {
 	 * Windup Services
 	 */
 	String LOADING_OPTIONS = "Loading Windup Options";
+	String SAVING_MODEL = "Saving Windup Model";
+	String LOADING_MODEL = "Loading Windup Model";
+	String COMPACTING_RUN_HISTORY = "Compacting Windup Run History";
+	String CREATING_MARKERS = "Creating Windup Markers";
+	String RESTORING_MARKERS = "Restoring Windup Markers";
+	String DELETING_MARKERS = "Deleting Windup Markers";
+	String DETECTING_STALE_ISSUES = "Detecting Stale Windup Issues";
+	String COMPARING_RUNS = "Comparing Windup Runs";
 	
 	/**
 	 * Projects launch configuration attribute.
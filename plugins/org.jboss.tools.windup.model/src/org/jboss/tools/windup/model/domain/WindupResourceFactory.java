@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceFactoryImpl;
+import org.jboss.tools.windup.model.util.PayloadPool;
+import org.jboss.tools.windup.model.util.PayloadUtil;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupResult;
+
+/**
+ * Creates the binary resources used to persist Windup's model.
+ *
+ * The root model and each {@link WindupResult} are stored in their own resources. Result resources
+ * are demand-loaded the first time their containment proxy is resolved.
+ * 
+ * Each resource maintains an index of its objects by id, which it updates as objects are attached
+ * and detached. Issues are referenced by their id, so resolving an issue's URI is a single lookup
+ * in this index, regardless of the issue's position in its result.
+ * 
+ * The hints of a very large result may instead be kept in a {@link ColumnarIssueStore} beside the result's
+ * resource. Looking up the id of a row that is not yet part of the result materializes it into the result,
+ * provided the factory's condition for changing the model holds, such as a write transaction being active.
+ * Otherwise the lookup finds nothing.
+ * 
+ * The links and quick fixes of a result's issues are held once by the result, see {@link PayloadPool}. Results
+ * persisted before then, whose issues contain their own, are moved to the result's pool as they are loaded.
+ */
+public class WindupResourceFactory extends ResourceFactoryImpl {
+
+	private final BooleanSupplier materializing;
+
+	public WindupResourceFactory() {
+		this(() -> true);
+	}
+
+	/**
+	 * Creates a factory whose resources only materialize the rows of their store while the specified condition holds.
+	 */
+	public WindupResourceFactory(BooleanSupplier materializing) {
+		this.materializing = materializing;
+	}
+
+	@Override
+	public Resource createResource(URI uri) {
+		Resource resource = new WindupResource(uri, materializing);
+		resource.setTrackingModification(true);
+		return resource;
+	}
+
+	/**
+	 * Returns the location of the issue store belonging to the resource with the specified URI.
+	 */
+	static File getIssueStoreLocation(URI uri) {
+		return new File(uri.trimFileExtension().toFileString());
+	}
+	
+	static class WindupResource extends BinaryResourceImpl {
+		
+		private ColumnarIssueStore issueStore;
+		private boolean issueStoreOpened;
+		private PayloadPool payloadPool;
+		private final BooleanSupplier materializing;
+
+		public WindupResource(URI uri, BooleanSupplier materializing) {
+			super(uri);
+			this.materializing = materializing;
+			setIntrinsicIDToEObjectMap(new HashMap<>());
+		}
+
+		@Override
+		protected void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
+			super.doLoad(inputStream, options);
+			for (EObject root : getContents()) {
+				if (root instanceof WindupResult) {
+					PayloadPool pool = new PayloadPool((WindupResult)root);
+					List<Issue> issues = ((WindupResult)root).getIssues();
+					for (int i = 0; i < issues.size(); i++) {
+						Issue issue = issues.get(i);
+						if (issue.getId() == null) {
+							// Results saved before issues had ids. Their content never changes,
+							// so the issue's position identifies it for as long as the result exists.
+							issue.setId(String.valueOf(i));
+						}
+						getIntrinsicIDToEObjectMap().put(issue.getId(), issue);
+						PayloadUtil.share(issue);
+						pool.share(issue);
+					}
+					pool.attach();
+				}
+			}
+		}
+		
+		@Override
+		protected void doUnload() {
+			super.doUnload();
+			issueStore = null;
+			issueStoreOpened = false;
+			payloadPool = null;
+		}
+		
+		/**
+		 * Returns the issue store of this resource, or null if its issues are all held in the model.
+		 */
+		public synchronized ColumnarIssueStore getIssueStore() {
+			if (!issueStoreOpened && getURI().isFile()) {
+				issueStore = ColumnarIssueStore.open(getIssueStoreLocation(getURI()));
+				issueStoreOpened = true;
+			}
+			return issueStore;
+		}
+		
+		/**
+		 * Returns true if the issue in the specified row of this resource's store is part of the result.
+		 */
+		public boolean isMaterialized(int row) {
+			return getIntrinsicIDToEObjectMap().containsKey(ColumnarIssueStore.getId(row));
+		}
+		
+		/**
+		 * Returns the number of rows of this resource's store that have been materialized into the result.
+		 */
+		public int getMaterializedCount() {
+			int count = 0;
+			for (String id : getIntrinsicIDToEObjectMap().keySet()) {
+				if (ColumnarIssueStore.getRow(id) != -1) {
+					count++;
+				}
+			}
+			return count;
+		}
+		
+		/**
+		 * Row ids are resolved through the id index and the store only. An unknown row id
+		 * doesn't fall back to scanning the resource's contents. A row is only materialized
+		 * while the model may be changed.
+		 */
+		@Override
+		protected EObject getEObjectByID(String id) {
+			int row = ColumnarIssueStore.getRow(id);
+			if (row == -1) {
+				return super.getEObjectByID(id);
+			}
+			EObject object = getIntrinsicIDToEObjectMap().get(id);
+			if (object == null && materializing.getAsBoolean()) {
+				ColumnarIssueStore store = getIssueStore();
+				if (store != null && row < store.size() && !getContents().isEmpty()) {
+					WindupResult result = (WindupResult)getContents().get(0);
+					if (payloadPool == null) {
+						payloadPool = new PayloadPool(result);
+					}
+					Hint hint = store.materialize(row, payloadPool);
+					payloadPool.attach();
+					result.getIssues().add(hint);
+					object = hint;
+				}
+			}
+			return object;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.ecore.EObject;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.QuickFix;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupResult;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * The {@link Link}s and {@link QuickFix}es of a {@link WindupResult}.
+ *
+ * Issues generated by the same rule carry identical links and quick fixes. Instead of each issue containing
+ * copies of its own, the result contains a single instance of each distinct payload, which its issues reference.
+ *
+ * Payloads created by the pool are only added to the result by {@link #attach()}, so that issues can be
+ * built outside of the model's transactions. A pool is not thread safe.
+ */
+public class PayloadPool {
+
+	private final WindupResult result;
+	private final Map<List<String>, Link> links = Maps.newHashMap();
+	private final Map<List<String>, QuickFix> quickFixes = Maps.newHashMap();
+	private final List<Link> pendingLinks = Lists.newArrayList();
+	private final List<QuickFix> pendingQuickFixes = Lists.newArrayList();
+
+	public PayloadPool(WindupResult result) {
+		this.result = result;
+		for (Link link : result.getLinks()) {
+			PayloadUtil.share(link);
+			links.putIfAbsent(getKey(link), link);
+		}
+		for (QuickFix quickFix : result.getQuickFixes()) {
+			PayloadUtil.share(quickFix);
+			quickFixes.putIfAbsent(getKey(quickFix), quickFix);
+		}
+	}
+
+	/**
+	 * Returns the pool's link with the specified content, creating it if the pool has none.
+	 */
+	public Link getLink(String description, String url) {
+		List<String> key = Arrays.asList(PayloadUtil.intern(description), PayloadUtil.intern(url));
+		Link link = links.get(key);
+		if (link == null) {
+			link = WindupFactory.eINSTANCE.createLink();
+			link.setDescription(key.get(0));
+			link.setUrl(key.get(1));
+			links.put(key, link);
+			pendingLinks.add(link);
+		}
+		return link;
+	}
+
+	/**
+	 * Returns the pool's quick fix with the specified content, creating it if the pool has none.
+	 */
+	public QuickFix getQuickFix(String name, String type, String searchString, String replacementString, String newLine) {
+		List<String> key = Arrays.asList(PayloadUtil.intern(name), PayloadUtil.intern(type),
+				PayloadUtil.intern(searchString), PayloadUtil.intern(replacementString), PayloadUtil.intern(newLine));
+		QuickFix quickFix = quickFixes.get(key);
+		if (quickFix == null) {
+			quickFix = WindupFactory.eINSTANCE.createQuickFix();
+			quickFix.setName(key.get(0));
+			quickFix.setQuickFixType(key.get(1));
+			quickFix.setSearchString(key.get(2));
+			quickFix.setReplacementString(key.get(3));
+			quickFix.setNewLine(key.get(4));
+			quickFixes.put(key, quickFix);
+			pendingQuickFixes.add(quickFix);
+		}
+		return quickFix;
+	}
+
+	/**
+	 * Points the specified issue at the pool's payloads. Payloads contained by the issue, as persisted by
+	 * previous versions, and payloads of another result, such as those of an issue copied from it, are
+	 * replaced by the pool's instances.
+	 */
+	public void share(Issue issue) {
+		Set<Link> sharedLinks = Sets.newLinkedHashSet();
+		for (Link link : Iterables.concat(issue.getLinks(), issue.getSharedLinks())) {
+			sharedLinks.add(getLink(link.getDescription(), link.getUrl()));
+		}
+		Set<QuickFix> sharedQuickFixes = Sets.newLinkedHashSet();
+		for (QuickFix fix : Iterables.concat(issue.getQuickFixes(), issue.getSharedQuickFixes())) {
+			sharedQuickFixes.add(getQuickFix(fix.getName(), fix.getQuickFixType(), fix.getSearchString(),
+					fix.getReplacementString(), fix.getNewLine()));
+		}
+		if (!issue.getLinks().isEmpty()) {
+			issue.getLinks().clear();
+		}
+		if (!issue.getQuickFixes().isEmpty()) {
+			issue.getQuickFixes().clear();
+		}
+		ECollections.setEList(issue.getSharedLinks(), Lists.newArrayList(sharedLinks));
+		ECollections.setEList(issue.getSharedQuickFixes(), Lists.newArrayList(sharedQuickFixes));
+	}
+
+	/**
+	 * Adds the payloads created since the previous call to the result. When the result is part of the model,
+	 * this must be done in the same transaction as attaching the issues referencing them.
+	 */
+	public void attach() {
+		if (!pendingLinks.isEmpty()) {
+			result.getLinks().addAll(pendingLinks);
+			pendingLinks.clear();
+		}
+		if (!pendingQuickFixes.isEmpty()) {
+			result.getQuickFixes().addAll(pendingQuickFixes);
+			pendingQuickFixes.clear();
+		}
+	}
+
+	/**
+	 * Removes the payloads no longer referenced by any issue of the result.
+	 */
+	public void prune() {
+		attach();
+		Set<EObject> referenced = Sets.newIdentityHashSet();
+		for (Issue issue : result.getIssues()) {
+			referenced.addAll(issue.getSharedLinks());
+			referenced.addAll(issue.getSharedQuickFixes());
+		}
+		result.getLinks().retainAll(referenced);
+		result.getQuickFixes().retainAll(referenced);
+		links.values().retainAll(referenced);
+		quickFixes.values().retainAll(referenced);
+	}
+
+	private static List<String> getKey(Link link) {
+		return Arrays.asList(link.getDescription(), link.getUrl());
+	}
+
+	private static List<String> getKey(QuickFix quickFix) {
+		return Arrays.asList(quickFix.getName(), quickFix.getQuickFixType(), quickFix.getSearchString(),
+				quickFix.getReplacementString(), quickFix.getNewLine());
+	}
+}
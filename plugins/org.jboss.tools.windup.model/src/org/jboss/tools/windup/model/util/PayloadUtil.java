@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.util;
+
+import org.jboss.tools.windup.windup.Classification;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.QuickFix;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Utility for sharing the payload of {@link Issue}s.
+ *
+ * Issues generated by the same rule carry identical titles and hint bodies, and issues within the same file
+ * carry identical paths. Routing these strings through a common pool keeps a single instance of each in the
+ * heap regardless of how many issues reference it. Links and quick fixes are shared as a whole by the issues
+ * of a result, see {@link PayloadPool}.
+ */
+public class PayloadUtil {
+
+	private static final Interner<String> POOL = Interners.newWeakInterner();
+
+	/**
+	 * Returns the canonical instance of the provided string, or null if the string is null.
+	 */
+	public static String intern(String value) {
+		return value != null ? POOL.intern(value) : null;
+	}
+
+	/**
+	 * Replaces the strings held by the specified issue with their canonical instances.
+	 * This is used for issues deserialized from disk, which otherwise get their own copies.
+	 * No notifications are delivered since the issue's content does not change.
+	 */
+	public static void share(Issue issue) {
+		boolean deliver = issue.eDeliver();
+		issue.eSetDeliver(false);
+		try {
+			issue.setFileAbsolutePath(intern(issue.getFileAbsolutePath()));
+			issue.setSeverity(intern(issue.getSeverity()));
+			issue.setRuleId(intern(issue.getRuleId()));
+			issue.setGeneratedReportLocation(intern(issue.getGeneratedReportLocation()));
+			if (issue instanceof Hint) {
+				Hint hint = (Hint)issue;
+				hint.setTitle(intern(hint.getTitle()));
+				hint.setHint(intern(hint.getHint()));
+			}
+			else if (issue instanceof Classification) {
+				Classification classification = (Classification)issue;
+				classification.setClassification(intern(classification.getClassification()));
+				classification.setDescription(intern(classification.getDescription()));
+			}
+		} finally {
+			issue.eSetDeliver(deliver);
+		}
+	}
+
+	static void share(Link link) {
+		boolean deliver = link.eDeliver();
+		link.eSetDeliver(false);
+		try {
+			link.setDescription(intern(link.getDescription()));
+			link.setUrl(intern(link.getUrl()));
+		} finally {
+			link.eSetDeliver(deliver);
+		}
+	}
+
+	static void share(QuickFix quickFix) {
+		boolean deliver = quickFix.eDeliver();
+		quickFix.eSetDeliver(false);
+		try {
+			quickFix.setName(intern(quickFix.getName()));
+			quickFix.setQuickFixType(intern(quickFix.getQuickFixType()));
+			quickFix.setSearchString(intern(quickFix.getSearchString()));
+			quickFix.setReplacementString(intern(quickFix.getReplacementString()));
+			quickFix.setNewLine(intern(quickFix.getNewLine()));
+		} finally {
+			quickFix.eSetDeliver(deliver);
+		}
+	}
+}
@@ -117,6 +117,11 @@ public class Messages extends NLS
     
     public static String generate_windup_report_for;
     public static String generatedReport;
+    public static String loadingModel;
+    public static String modelLoadFailed;
+    public static String loadingIssues;
+    public static String newIssue;
+    public static String movedIssue;
     
     public static String selectLaunchConfiguration;
     public static String selectExistinConfiguration;
@@ -102,7 +102,11 @@ public class WindupConfigurationsTable {
 		AdapterFactory factory = domain.getAdapterFactory();
 		tableViewer.setContentProvider(new AdapterFactoryContentProvider(factory));
 		tableViewer.setLabelProvider(new AdapterFactoryLabelProvider(factory));
-		tableViewer.setInput(modelService.getModel());
+		modelService.getModelAsync().thenAccept(model -> Display.getDefault().asyncExec(() -> {
+			if (!tableViewer.getTable().isDisposed()) {
+				tableViewer.setInput(model);
+			}
+		}));
 	}
 	
 	private void createToolbar(Section section) {
@@ -158,6 +158,7 @@ public class IssueExplorer extends CommonNavigator {
 		getCommonViewer().addDoubleClickListener(new OpenReportListener());
 		getCommonViewer().addSelectionChangedListener((e) -> {
 			StructuredSelection ss = (StructuredSelection)e.getSelection();
+			contentService.selectionChanged();
 			if (ss.size() == 1) {
 				Object selection = ss.getFirstElement();
 				IMarker type = null;
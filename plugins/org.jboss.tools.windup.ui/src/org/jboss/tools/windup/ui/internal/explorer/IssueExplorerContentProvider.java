@@ -10,16 +10,18 @@
  ******************************************************************************/
 package org.jboss.tools.windup.ui.internal.explorer;
 
-import static org.jboss.tools.windup.model.domain.WindupMarker.SEVERITY;
-
 import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
 
 import org.apache.commons.collections.BidiMap;
 import org.apache.commons.collections.bidimap.DualHashBidiMap;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
@@ -35,7 +37,6 @@ import org.eclipse.ui.navigator.IExtensionStateModel;
 import org.eclipse.ui.navigator.INavigatorContentService;
 import org.jboss.tools.windup.model.domain.ModelService;
 import org.jboss.tools.windup.model.domain.WindupConstants;
-import org.jboss.tools.windup.model.domain.WindupMarker;
 import org.jboss.tools.windup.ui.internal.Messages;
 import org.jboss.tools.windup.ui.internal.explorer.IssueConstants.Severity;
 import org.jboss.tools.windup.ui.internal.services.IssueGroupService;
@@ -94,6 +95,9 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 		private IEclipseContext context;
 		private ConfigurationElement configuration;
 		private BidiMap nodeMap = new DualHashBidiMap();
+		private Collection<IFile> lazyFiles = Collections.emptySet();
+		private Set<Issue> newIssues = Collections.emptySet();
+		private Set<Issue> movedIssues = Collections.emptySet();
 		
 		public TreeNodeBuilder(List<IMarker> markers, IssueExplorer explorer, 
 				IssueGroupService groupService, IEclipseContext context,
@@ -111,16 +115,54 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 			this.context = context;
 		}
 		
+		/**
+		 * Sets the files whose markers have not been created yet, which are added as {@link LazyFileNode}s.
+		 */
+		public void setLazyFiles(Collection<IFile> lazyFiles) {
+			this.lazyFiles = lazyFiles;
+		}
+		
+		/**
+		 * Sets the issues reported by the last run but not by the run before it, whose nodes are marked as new.
+		 */
+		public void setNewIssues(Set<Issue> newIssues) {
+			this.newIssues = newIssues;
+		}
+		
+		/**
+		 * Sets the issues the run before the last one reported at another line, whose nodes are marked as moved.
+		 */
+		public void setMovedIssues(Set<Issue> movedIssues) {
+			this.movedIssues = movedIssues;
+		}
+		
 		public TreeNode[] build() {
 			if (configuration == null) {
 				return new TreeNode[0];
 			}
 			TreeNode root = new TreeNode(null);
 			for (IMarker marker : markers) {
+				// markers only reference their issue, the attributes the tree is grouped by are read from the model.
+				Issue issue = modelService.findIssue(marker);
+				if (issue == null) {
+					continue;
+				}
 				List<TreePath> paths = Lists.newArrayList(contentProvider.getParents(marker.getResource()));
 				if (!paths.isEmpty()) {
 					TreePath path = paths.get(0);
-					build(root, root, path, marker, 1);
+					build(root, root, path, marker, issue, 1);
+				}
+			}
+			// lazy files can only be shown as file nodes, their issues are not known until they are expanded.
+			if (groupService.isGroupByFile()) {
+				for (IFile file : lazyFiles) {
+					List<TreePath> paths = Lists.newArrayList(contentProvider.getParents(file));
+					if (!paths.isEmpty()) {
+						TreeNode parent = groupService.isGroupByHierarchy() ? getHierarchyNode(root, paths.get(0)) : root;
+						if (parent.getChildPath(file) == null) {
+							parent.addChild(new LazyFileNode(file));
+						}
+					}
 				}
 			}
 			List<TreeNode> children = root.getChildren();
@@ -130,11 +172,24 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 			return children.stream().toArray(TreeNode[]::new);
 		}
 		
+		private static TreeNode getHierarchyNode(TreeNode node, TreePath path) {
+			for (int index = 1; index < path.getSegmentCount(); index++) {
+				Object segment = path.getSegment(index);
+				TreeNode child = node.getChildPath(segment);
+				if (child == null) {
+					child = new TreeNode(segment);
+					node.addChild(child);
+				}
+				node = child;
+			}
+			return node;
+		}
+		
 		public BidiMap getNodeMap() {
 			return nodeMap;
 		}
 		
-		public void build(TreeNode root, TreeNode node, TreePath path, IMarker marker, int index) {
+		public void build(TreeNode root, TreeNode node, TreePath path, IMarker marker, Issue issue, int index) {
 			if (groupService.isGroupByHierarchy()) {
 				// build the hierarchy.
 				if (index < path.getSegmentCount()) {
@@ -144,7 +199,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 						child = new TreeNode(segment);
 						node.addChild(child);
 					}
-					build(root, child, path, marker, ++index);
+					build(root, child, path, marker, issue, ++index);
 					return;
 				}
 			}
@@ -158,16 +213,13 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 				parent = resourceNode;
 				
 				if (configuration.isGenerateReport()) {
-					Issue issue = modelService.findIssue(marker);
-					if (issue != null) {
-						if (issue.getGeneratedReportLocation() != null) {
-							File report = new File(issue.getGeneratedReportLocation());
-							if (report.exists()) {
-								TreeNode reportNode = parent.getChildPath(Messages.generatedReport);
-								if (reportNode == null) {
-									reportNode = new ReportNode(Messages.generatedReport, marker);
-									parent.addChild(reportNode);
-								}
+					if (issue.getGeneratedReportLocation() != null) {
+						File report = new File(issue.getGeneratedReportLocation());
+						if (report.exists()) {
+							TreeNode reportNode = parent.getChildPath(Messages.generatedReport);
+							if (reportNode == null) {
+								reportNode = new ReportNode(Messages.generatedReport, marker);
+								parent.addChild(reportNode);
 							}
 						}
 					}
@@ -176,7 +228,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 			
 			if (groupService.isGroupBySeverity()) {
 				Object segment = marker.getAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
-				String severity = marker.getAttribute(SEVERITY, Severity.POTENTIAL.toString());
+				String severity = issue.getSeverity() != null ? issue.getSeverity() : Severity.POTENTIAL.toString();
 				TreeNode severityNode = parent.getChildPath(segment);
 				if (severityNode == null) {
 					severityNode = new SeverityNode(segment, severity);
@@ -186,9 +238,8 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 			}
 			
 			if (groupService.isGroupByRule()) {
-				String ruleId = marker.getAttribute(WindupMarker.RULE_ID, WindupConstants.DEFAULT_RULE_ID);
+				String ruleId = issue.getRuleId() != null ? issue.getRuleId() : WindupConstants.DEFAULT_RULE_ID;
 				String title = "";
-				Issue issue = modelService.findIssue(marker);
 				if (issue instanceof Hint) {
 					title = ((Hint)issue).getTitle();
 				}
@@ -201,15 +252,14 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 				parent = ruleNode;
 			}
 			
-			Issue issue = modelService.findIssue(marker);
-			if (issue != null) {
-				IEclipseContext child = context.createChild();
-				child.set(IMarker.class, marker);
-				child.set(Issue.class, issue);
-				MarkerNode markerNode = ContextInjectionFactory.make(MarkerNode.class, child);
-				parent.addChild(markerNode);
-				nodeMap.put(marker, markerNode);
-			}
+			IEclipseContext child = context.createChild();
+			child.set(IMarker.class, marker);
+			child.set(Issue.class, issue);
+			MarkerNode markerNode = ContextInjectionFactory.make(MarkerNode.class, child);
+			markerNode.setNew(newIssues.contains(issue));
+			markerNode.setMoved(movedIssues.contains(issue));
+			parent.addChild(markerNode);
+			nodeMap.put(marker, markerNode);
 		}
 	}
 	
@@ -290,6 +340,18 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 		}
 	}
 	
+	/**
+	 * A file whose markers are created once the file is expanded.
+	 */
+	public static class LazyFileNode extends TreeNode {
+		public LazyFileNode(IFile file) {
+			super(file);
+		}
+		public IFile getFile() {
+			return (IFile)getSegment();
+		}
+	}
+	
 	public static class ReportNode extends TreeNode	 {
 		private IMarker marker;
 		public ReportNode (Object segment, IMarker marker) {
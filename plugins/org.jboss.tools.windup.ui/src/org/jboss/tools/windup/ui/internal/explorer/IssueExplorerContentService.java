@@ -14,27 +14,51 @@ import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_CLASSIFICA
 import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_HINT_MARKER_ID;
 import static org.jboss.tools.windup.ui.internal.explorer.MarkerUtil.getMarkers;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import org.apache.commons.collections.BidiMap;
 import org.apache.commons.collections.bidimap.DualHashBidiMap;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Creatable;
 import org.eclipse.e4.core.di.annotations.Optional;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.swt.widgets.Display;
+import org.jboss.tools.windup.model.domain.IssueDelta;
+import org.jboss.tools.windup.model.domain.IssueDeltaService;
+import org.jboss.tools.windup.model.domain.IssueIndexService;
+import org.jboss.tools.windup.model.domain.IssueQuery;
 import org.jboss.tools.windup.model.domain.ModelService;
+import org.jboss.tools.windup.model.domain.WindupConstants;
+import org.jboss.tools.windup.ui.internal.Messages;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.LazyFileNode;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNode;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNodeBuilder;
 import org.jboss.tools.windup.ui.internal.services.IssueGroupService;
+import org.jboss.tools.windup.ui.internal.services.MarkerService;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupResult;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 /**
  * A service for computing the issue explorer's input.
@@ -46,8 +70,59 @@ public class IssueExplorerContentService {
 	@Inject private IssueGroupService groupService;
 	@Inject private IEclipseContext context;
 	@Inject private ModelService modelService;
+	@Inject private IssueIndexService indexService;
+	@Inject private MarkerService markerService;
+	@Inject private IssueDeltaService deltaService;
 	@Inject @Optional private IssueExplorer issueExplorer;
 	
+	/**
+	 * The issues reported by the last run of the recent configuration but not by the run before it, those the
+	 * run before it reported at another line, and the results they are computed for. The delta is computed
+	 * again, in the background, once a result is replaced by a new run.
+	 */
+	private List<WindupResult> deltaResults = Collections.emptyList();
+	private volatile Set<Issue> newIssues = Collections.emptySet();
+	private volatile Set<Issue> movedIssues = Collections.emptySet();
+	
+	private final Job deltaJob = new Job(WindupConstants.COMPARING_RUNS) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			Set<Issue> added = Sets.newIdentityHashSet();
+			Set<Issue> moved = Sets.newIdentityHashSet();
+			modelService.read(() -> {
+				ConfigurationElement configuration = modelService.getRecentConfiguration();
+				if (configuration == null) {
+					return;
+				}
+				for (Input input : configuration.getInputs()) {
+					IssueDelta delta = deltaService.computeSinceLastRun(input);
+					if (delta != null) {
+						added.addAll(delta.getAdded());
+						moved.addAll(delta.getMoved().values());
+					}
+				}
+			});
+			newIssues = added;
+			movedIssues = moved;
+			Display.getDefault().asyncExec(() -> {
+				if (issueExplorer != null && !issueExplorer.getCommonViewer().getControl().isDisposed()) {
+					issueExplorer.getCommonViewer().refresh();
+				}
+			});
+			return Status.OK_STATUS;
+		}
+	};
+	{
+		deltaJob.setSystem(true);
+	}
+	
+	/**
+	 * The selected group node, and whether it has quick fixable issues beneath it. Menus test the selection
+	 * repeatedly, so this is computed once per selection, and again once the tree or its markers change.
+	 */
+	private TreeNode selectedGroup;
+	private boolean selectedGroupFixable;
+	
 	public void setIssuExplorer(IssueExplorer issueExplorer) {
 		this.issueExplorer = issueExplorer;
 	}
@@ -55,6 +130,9 @@ public class IssueExplorerContentService {
 	private BidiMap nodeMap = new DualHashBidiMap();
 	
 	public boolean hasChildren(Object element) {
+		if (element instanceof LazyFileNode) {
+			return true;
+		}
 		if (element instanceof TreeNode) {
 			TreeNode node = (TreeNode)element;
 			return !node.getChildren().isEmpty();
@@ -63,11 +141,29 @@ public class IssueExplorerContentService {
 	}
 	
 	public Object[] getChildren(Object parent) {
-		if (parent instanceof TreeNode) {
+		if (parent instanceof LazyFileNode) {
+			// the tree can't be rebuilt while it is being expanded.
+			IFile file = ((LazyFileNode)parent).getFile();
+			Display.getDefault().asyncExec(() -> showFile(file));
+			return new Object[] {new TreeNode(Messages.loadingIssues)};
+		}
+		else if (parent instanceof TreeNode) {
 			TreeNode node = (TreeNode)parent;
 			return node.getChildren().stream().toArray(TreeNode[]::new);	
 		}
 		else if (parent instanceof IWorkspaceRoot) {
+			if (modelService.getModelAsync().isCompletedExceptionally()) {
+				return new Object[] {new TreeNode(Messages.modelLoadFailed)};
+			}
+			if (!modelService.isLoaded()) {
+				// render a placeholder, and populate the explorer once the model is ready, or failed to load.
+				modelService.getModelAsync().whenComplete((model, e) -> Display.getDefault().asyncExec(() -> {
+					if (issueExplorer != null && !issueExplorer.getCommonViewer().getControl().isDisposed()) {
+						issueExplorer.getCommonViewer().refresh();
+					}
+				}));
+				return new Object[] {new TreeNode(Messages.loadingModel)};
+			}
 			return createNodeGroups();
 		}
 		return new Object[0];
@@ -85,12 +181,70 @@ public class IssueExplorerContentService {
 	}
 	
 	private Object[] createNodeGroups(List<IMarker> markers) {
+		selectionChanged();
 		TreeNodeBuilder builder = new TreeNodeBuilder(markers, issueExplorer, groupService, context, modelService);
-		Object[] input = builder.build();
+		if (markerService.isLazy()) {
+			builder.setLazyFiles(Sets.newHashSet(markerService.getLazyFiles()));
+		}
+		// the builder walks the issues of the markers, don't let ingestion modify them meanwhile. Issues held in
+		// the store of their result are materialized into it as the markers are resolved, so this is a write.
+		List<Object[]> input = Lists.newArrayList();
+		modelService.update(() -> {
+			updateDelta();
+			builder.setNewIssues(newIssues);
+			builder.setMovedIssues(movedIssues);
+			input.add(builder.build());
+		});
 		this.nodeMap = builder.getNodeMap();
-		return input;
+		return !input.isEmpty() ? input.get(0) : new Object[0];
+	}
+
+	/**
+	 * Schedules the delta between the last two runs of the recent configuration's inputs to be computed, if their
+	 * results changed since it was last computed. The tree is refreshed once the delta is computed, runs are
+	 * reconstructed from their history, which is too slow to be done while the tree is built.
+	 */
+	private void updateDelta() {
+		ConfigurationElement configuration = modelService.getRecentConfiguration();
+		List<WindupResult> results = configuration != null ? configuration.getInputs().stream()
+				.map(Input::getWindupResult).collect(Collectors.toList()) : Collections.emptyList();
+		if (!results.equals(deltaResults)) {
+			deltaResults = results;
+			newIssues = Collections.emptySet();
+			movedIssues = Collections.emptySet();
+			if (configuration != null) {
+				deltaJob.schedule();
+			}
+		}
 	}
 
+	/**
+	 * Creates the markers of a file whose markers are created on demand, rebuilds the tree, and expands the file.
+	 */
+	private void showFile(IFile file) {
+		markerService.showMarkers(file);
+		if (issueExplorer == null || issueExplorer.getCommonViewer().getControl().isDisposed()) {
+			return;
+		}
+		issueExplorer.getCommonViewer().refresh();
+		for (Object marker : nodeMap.keySet()) {
+			if (file.equals(((IMarker)marker).getResource())) {
+				TreeNode node = (MarkerNode)nodeMap.get(marker);
+				while (node != null && !file.equals(node.getSegment())) {
+					node = node.getParent();
+				}
+				if (node != null) {
+					List<TreeNode> segments = Lists.newArrayList();
+					for (TreeNode parent = node; parent != null && parent.getSegment() != null; parent = parent.getParent()) {
+						segments.add(0, parent);
+					}
+					issueExplorer.getCommonViewer().expandToLevel(new TreePath(segments.toArray()), 1);
+				}
+				return;
+			}
+		}
+	}
+	
 	public List<IMarker> collectMarkers() {
 		List<IMarker> markers = Lists.newArrayList();
 		for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
@@ -108,6 +262,90 @@ public class IssueExplorerContentService {
 		return markers;
 	}
 	
+	/**
+	 * Returns the marker nodes beneath the specified node whose issues can be quick fixed.
+	 * The fixable issues are looked up through the issue index, and their nodes through their markers, rather than by walking the tree.
+	 * The lookup is narrowed to the file or project of the node, if it is beneath one.
+	 */
+	public List<MarkerNode> findQuickFixableNodes(TreeNode node) {
+		List<MarkerNode> nodes = Lists.newArrayList();
+		ConfigurationElement configuration = modelService.getRecentConfiguration();
+		if (configuration == null) {
+			return nodes;
+		}
+		IssueQuery query = indexService.query().configuration(configuration).fixable();
+		IResource resource = getResource(node);
+		if (resource instanceof IFile) {
+			query.file((IFile)resource);
+		}
+		else if (resource != null) {
+			query.project(resource.getProject());
+		}
+		for (Issue issue : query.list()) {
+			IMarker marker = markerService.findMarker(issue);
+			MarkerNode markerNode = marker != null ? (MarkerNode)nodeMap.get(marker) : null;
+			if (markerNode != null && isDescendant(markerNode, node)) {
+				nodes.add(markerNode);
+			}
+		}
+		return nodes;
+	}
+	
+	/**
+	 * Returns true if the specified group node has at least one quick fixable issue beneath it.
+	 */
+	public boolean hasQuickFixableNodes(TreeNode node) {
+		if (node != selectedGroup) {
+			selectedGroupFixable = !findQuickFixableNodes(node).isEmpty();
+			selectedGroup = node;
+		}
+		return selectedGroupFixable;
+	}
+	
+	/**
+	 * Discards the quick fix availability computed for the previous selection.
+	 */
+	public void selectionChanged() {
+		selectedGroup = null;
+	}
+	
+	/**
+	 * Returns the resource of the specified node or of its closest ancestor that has one, or null if there is none.
+	 */
+	private static IResource getResource(TreeNode node) {
+		for (TreeNode parent = node; parent != null; parent = parent.getParent()) {
+			Object segment = parent.getSegment();
+			IResource resource = null;
+			if (segment instanceof IMarker) {
+				resource = ((IMarker)segment).getResource();
+			}
+			else if (segment instanceof IResource) {
+				resource = (IResource)segment;
+			}
+			else if (segment instanceof IAdaptable) {
+				resource = (IResource)((IAdaptable)segment).getAdapter(IResource.class);
+			}
+			if (resource != null && !(resource instanceof IWorkspaceRoot)) {
+				return resource;
+			}
+		}
+		return null;
+	}
+	
+	private static boolean isDescendant(TreeNode node, TreeNode ancestor) {
+		for (TreeNode child = node; child != null; child = child.getParent()) {
+			if (child == ancestor) {
+				return true;
+			}
+			TreeNode parent = child.getParent();
+			if (parent != null && parent.getChildPath(child.getSegment()) != child) {
+				// the node has been removed from the tree.
+				return false;
+			}
+		}
+		return false;
+	}
+	
 	public MarkerNode findMarkerNode(IMarker marker) {
 		return (MarkerNode)nodeMap.get(marker);
 	}
@@ -115,6 +353,7 @@ public class IssueExplorerContentService {
 	public void updateNodeMapping(IMarker original, IMarker updatedMarker) {
 		MarkerNode node = (MarkerNode)nodeMap.get(original);
 		if (node != null) {
+			selectionChanged();
 			node.setMarker(updatedMarker);
 			nodeMap.remove(original);
 			nodeMap.put(updatedMarker, node);
@@ -13,7 +13,7 @@ package org.jboss.tools.windup.ui.internal.explorer;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Dictionary;
 import java.util.Hashtable;
-import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -51,7 +51,7 @@ import org.jboss.tools.windup.windup.Hint;
 import org.jboss.tools.windup.windup.Issue;
 import org.jboss.tools.windup.windup.QuickFix;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 /**
  * Handlers used by the Issue Explorer.
@@ -191,8 +191,7 @@ public class IssueExplorerHandlers {
 		public Object execute(ExecutionEvent event) throws ExecutionException {
 			ConfigurationElement configurationElement = modelService.getRecentConfiguration();
 			if (configurationElement != null) {
-				markerService.deleteAllWindupMarkers();
-				markerService.updateMarkers(modelService.getRecentConfiguration());	
+				markerService.updateMarkers(configurationElement);
 			}
 			return null;
 		}
@@ -218,7 +217,7 @@ public class IssueExplorerHandlers {
 						throws CoreException, InvocationTargetException, InterruptedException {
 					for (Object selected : ((StructuredSelection)selection).toList()) {
 						MarkerNode node = (MarkerNode)selected;
-						QuickFix quickFix = node.getIssue().getQuickFixes().get(0);
+						QuickFix quickFix = node.getIssue().getSharedQuickFixes().get(0);
 						IMarker marker = node.getMarker();
 						QuickFixUtil.applyQuickFix(quickFix, (Hint)node.getIssue(), marker, broker, markerService);
 					}
@@ -248,18 +247,19 @@ public class IssueExplorerHandlers {
 	}
 	
 	public static class QuickFixAllHandler extends AbstractIssueHandler {
+		@Inject private IssueExplorerContentService contentService;
 		@Override
 		public Object execute(ExecutionEvent event) throws ExecutionException {
 			TreeSelection selection = (TreeSelection) HandlerUtil.getCurrentSelection(event);
-			List<MarkerNode> fixableNodes = Lists.newArrayList();
+			Set<MarkerNode> fixableNodes = Sets.newLinkedHashSet();
 			for (Object selected : ((StructuredSelection)selection).toList()) {
 				TreeNode node = (TreeNode)selected;
-				IssueExplorerHandlers.collectQuickFixableNodes(node, fixableNodes);
+				fixableNodes.addAll(contentService.findQuickFixableNodes(node));
 			}
 			
 			for (MarkerNode node : fixableNodes) {
 				Hint hint = (Hint)node.getIssue();
-				QuickFix quickFix = hint.getQuickFixes().get(0);
+				QuickFix quickFix = hint.getSharedQuickFixes().get(0);
 				IMarker marker = node.getMarker();
 				WorkspaceModifyOperation op = new WorkspaceModifyOperation() {
 					@Override
@@ -277,19 +277,4 @@ public class IssueExplorerHandlers {
 			return null;
 		}
 	}
-	
-	private static void collectQuickFixableNodes(TreeNode node, List<MarkerNode> nodes) {
-		for (TreeNode child : node.getChildren()) {
-			if (child instanceof MarkerNode) {
-				MarkerNode childNode = (MarkerNode)child;
-				Issue issue = childNode.getIssue();
-				if (QuickFixUtil.isIssueFixable(issue)) {
-					nodes.add(childNode);
-				}
-			}
-			else {
-				collectQuickFixableNodes(child, nodes);
-			}
-		}
-	}
 }
@@ -37,6 +37,7 @@ import org.eclipse.ui.model.WorkbenchLabelProvider;
 import org.eclipse.ui.navigator.ICommonContentExtensionSite;
 import org.eclipse.ui.navigator.ICommonLabelProvider;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
+import org.jboss.tools.windup.ui.internal.Messages;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.ReportNode;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.RuleGroupNode;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.SeverityNode;
@@ -216,13 +217,19 @@ public class IssueExplorerLabelProvider implements ICommonLabelProvider, IStyled
 			if (issue instanceof Hint) {
 				Hint hint = (Hint)issue;
 				style.append(hint.getTitle());
-				style.append(" [" + markerNode.getFileName() + " " + hint.getLineNumber() + "]", 
+				style.append(" [" + markerNode.getFileName() + " " + markerNode.getLineNumber() + "]", 
 						StyledString.DECORATIONS_STYLER); 
 			}
 
 			else {
 				style.append(markerNode.getFileName());
 			}
+			if (markerNode.isNew()) {
+				style.append(" (" + Messages.newIssue + ")", StyledString.QUALIFIER_STYLER);
+			}
+			else if (markerNode.isMoved()) {
+				style.append(" (" + Messages.movedIssue + ")", StyledString.QUALIFIER_STYLER);
+			}
 			return style;
 		}
 		if (element instanceof TreeNode) {
@@ -58,34 +58,18 @@ public class IssueExplorerPropertyTesters {
 	}
 	
 	public static class GroupPropertyTester extends PropertyTester {
+		@Inject private IssueExplorerContentService contentService;
 		@Override
 		public boolean test(Object element, String property, Object[] args, Object expectedValue) {
 			if (IS_GROUP.equals(property)) {
 				if (element instanceof TreeNode && !(element instanceof MarkerNode) && !(element instanceof ReportNode)) {
-					return containsQuickFix((TreeNode)element);
+					return contentService.hasQuickFixableNodes((TreeNode)element);
 				}
 			}
 			return false;
 		}
 	}
 	
-	private static boolean containsQuickFix(TreeNode node) {
-		for (TreeNode child : node.getChildren()) {
-			if (child instanceof MarkerNode) {
-				Issue issue = ((MarkerNode)child).getIssue();
-				if (QuickFixUtil.isIssueFixable(issue)) {
-					return true;
-				}
-			}
-			else {
-				if (containsQuickFix(child)) {
-					return true;
-				}
-			}
-		}
-		return false;
-	}
-	
 	public static class ReportPropertyTester extends PropertyTester {
 		@Inject private ModelService modelService;
 		@Override
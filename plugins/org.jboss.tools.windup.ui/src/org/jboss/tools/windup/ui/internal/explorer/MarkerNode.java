@@ -22,17 +22,21 @@ import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 import org.jboss.tools.windup.model.domain.WindupConstants;
-import org.jboss.tools.windup.model.domain.WindupMarker;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.explorer.IssueConstants.Severity;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNode;
+import org.jboss.tools.windup.ui.internal.services.MarkerService;
 import org.jboss.tools.windup.windup.Hint;
 import org.jboss.tools.windup.windup.Issue;
 
 public class MarkerNode extends TreeNode {
 	
+	@Inject private MarkerService markerService;
+	
 	private Issue issue;
 	private IMarker marker;
+	private boolean isNew;
+	private boolean isMoved;
 	
 	@Inject
 	public MarkerNode(IMarker marker, Issue issue) {
@@ -56,9 +60,12 @@ public class MarkerNode extends TreeNode {
 		return marker.getResource().getName();
 	}
 	
+	/**
+	 * Returns the line of the marker, which follows the flagged line as the file is edited.
+	 */
 	public int getLineNumber() {
 		if (issue instanceof Hint) {
-			return ((Hint)issue).getLineNumber();
+			return marker.getAttribute(IMarker.LINE_NUMBER, ((Hint)issue).getLineNumber());
 		}
 		return 0;
 	}
@@ -68,18 +75,40 @@ public class MarkerNode extends TreeNode {
 	}
 	
 	public int getSeverity() {
-		String severity = marker.getAttribute(WindupMarker.SEVERITY, Severity.OPTIONAL.toString());
+		String severity = issue.getSeverity() != null ? issue.getSeverity() : Severity.OPTIONAL.toString();
 		return MarkerUtil.convertSeverity(severity);
 	}
 	
 	public boolean hasQuickFix() {
-		return !issue.getQuickFixes().isEmpty() && !issue.isFixed();
+		return !issue.getSharedQuickFixes().isEmpty() && !issue.isFixed();
 	}
 	
 	public boolean isFixed() {
 		return issue.isFixed();
 	}
 	
+	/**
+	 * Returns true if the issue was reported by the last run, but not by the run before it.
+	 */
+	public boolean isNew() {
+		return isNew;
+	}
+	
+	public void setNew(boolean isNew) {
+		this.isNew = isNew;
+	}
+	
+	/**
+	 * Returns true if the issue was reported by the run before the last one at another line.
+	 */
+	public boolean isMoved() {
+		return isMoved;
+	}
+	
+	public void setMoved(boolean isMoved) {
+		this.isMoved = isMoved;
+	}
+	
 	public IMarker getMarker() {
 		return marker;
 	}
@@ -89,12 +118,12 @@ public class MarkerNode extends TreeNode {
 	}
 	
 	public String getRule() {
-		return marker.getAttribute(WindupMarker.RULE_ID, WindupConstants.DEFAULT_RULE_ID);
+		return issue.getRuleId() != null ? issue.getRuleId() : WindupConstants.DEFAULT_RULE_ID;
 	}
 	
 	public void delete() {
 		try {
-			marker.delete();
+			markerService.deleteMarker(marker);
 		} catch (CoreException e) {
 			WindupUIPlugin.log(e);
 			MessageDialog.open(MessageDialog.ERROR, Display.getDefault().getActiveShell(), 
@@ -45,8 +45,8 @@ public class QuickFixDiffDialog extends DiffDialog {
 	
 	@Override
 	protected Control createDialogArea(Composite parent) {
-		if (hint.getQuickFixes().size() == 1) {
-			this.quickFix = hint.getQuickFixes().get(0);
+		if (hint.getSharedQuickFixes().size() == 1) {
+			this.quickFix = hint.getSharedQuickFixes().get(0);
 			return super.createDialogArea(parent);
 		}
 		Composite container = new Composite(parent, SWT.NONE);
@@ -57,7 +57,7 @@ public class QuickFixDiffDialog extends DiffDialog {
 		table.getTable().setHeaderVisible(true);
 		table.getTable().setLinesVisible(true);
 		table.setContentProvider(ArrayContentProvider.getInstance());
-		table.setInput(hint.getQuickFixes());
+		table.setInput(hint.getSharedQuickFixes());
 		GridDataFactory.fillDefaults().grab(true, false).hint(SWT.DEFAULT, 100).applyTo(table.getTable());
 		table.addSelectionChangedListener(new ISelectionChangedListener() {
 			@Override
@@ -70,7 +70,7 @@ public class QuickFixDiffDialog extends DiffDialog {
 			}
 		});
 		Control control = super.doCreateDialogArea(container);
-		table.setSelection(new StructuredSelection(hint.getQuickFixes().get(0)));			
+		table.setSelection(new StructuredSelection(hint.getSharedQuickFixes().get(0)));			
 		return control;
 	}
 	
@@ -76,7 +76,7 @@ public class QuickFixUtil {
 			MarkerService markerService) {
 		IResource left = marker.getResource();
 		Shell shell = Display.getCurrent().getActiveShell();
-		QuickFix firstQuickFix = hint.getQuickFixes().get(0); 
+		QuickFix firstQuickFix = hint.getSharedQuickFixes().get(0); 
 		IResource right = QuickFixUtil.getQuickFixedResource(left, firstQuickFix, hint);
 		QuickFixDiffDialog dialog = new QuickFixDiffDialog(shell, left, right, hint);
 		if (dialog.open() == IssueConstants.APPLY_FIX) {
@@ -85,6 +85,6 @@ public class QuickFixUtil {
 	}
 	
 	public static boolean isIssueFixable(Issue issue) {
-		return !issue.isStale() && !issue.isFixed() && !issue.getQuickFixes().isEmpty();
+		return !issue.isStale() && !issue.isFixed() && !issue.getSharedQuickFixes().isEmpty();
 	}
 }
@@ -10,12 +10,6 @@
  ******************************************************************************/
 package org.jboss.tools.windup.ui.internal.issues;
 
-import static org.jboss.tools.windup.model.domain.WindupMarker.EFFORT;
-import static org.jboss.tools.windup.model.domain.WindupMarker.HINT;
-import static org.jboss.tools.windup.model.domain.WindupMarker.RULE_ID;
-import static org.jboss.tools.windup.model.domain.WindupMarker.SEVERITY;
-import static org.jboss.tools.windup.model.domain.WindupMarker.SOURCE_SNIPPET;
-import static org.jboss.tools.windup.model.domain.WindupMarker.TITLE;
 import static org.jboss.tools.windup.ui.internal.Messages.issueLabelEffort;
 import static org.jboss.tools.windup.ui.internal.Messages.issueLabelHint;
 import static org.jboss.tools.windup.ui.internal.Messages.issueLabelInfo;
@@ -53,6 +47,8 @@ import org.eclipse.ui.forms.widgets.FormToolkit;
 import org.eclipse.ui.forms.widgets.Hyperlink;
 import org.eclipse.ui.forms.widgets.ScrolledForm;
 import org.jboss.tools.windup.model.domain.ModelService;
+import org.jboss.tools.windup.windup.Classification;
+import org.jboss.tools.windup.windup.Hint;
 import org.jboss.tools.windup.windup.Issue;
 
 import com.google.common.collect.Lists;
@@ -194,14 +190,29 @@ public class IssueDetailsView {
 		}
 		
 		private void refresh(Issue issue) {
-			titleText.setText(marker.getAttribute(TITLE, noIssueDetails));
-			hintText.setText(marker.getAttribute(HINT, noIssueDetails));
-			severityText.setText(marker.getAttribute(SEVERITY, noIssueDetails));
-			effortText.setText(marker.getAttribute(EFFORT, noIssueDetails));
-			ruleIdText.setText(marker.getAttribute(RULE_ID, noIssueDetails));
-			sourceText.setText(marker.getAttribute(SOURCE_SNIPPET, noIssueDetails));
+			// markers only reference their issue, the details are read from the model.
+			String title = null, hint = null, source = null;
+			if (issue instanceof Hint) {
+				title = ((Hint)issue).getTitle();
+				hint = ((Hint)issue).getHint();
+				source = ((Hint)issue).getSourceSnippet();
+			}
+			else if (issue instanceof Classification) {
+				title = ((Classification)issue).getClassification();
+				hint = ((Classification)issue).getDescription();
+			}
+			titleText.setText(valueOf(title));
+			hintText.setText(valueOf(hint));
+			severityText.setText(valueOf(issue.getSeverity()));
+			effortText.setText(String.valueOf(issue.getEffort()));
+			ruleIdText.setText(valueOf(issue.getRuleId()));
+			sourceText.setText(valueOf(source));
 			infoSection.update(issue);
 		}
+		
+		private static String valueOf(String value) {
+			return value != null ? value : noIssueDetails;
+		}
 	}
 	
 	private static class InfoSection extends Composite {
@@ -233,12 +244,12 @@ public class IssueDetailsView {
 		
 		public void update(Issue issue) {
 			sections.forEach(section -> section.dispose());
-			if (issue.getLinks().isEmpty()) {
+			if (issue.getSharedLinks().isEmpty()) {
 				createPlaceholder();
 			}
 			else {
 				disposePlaceholder();
-				for (final org.jboss.tools.windup.windup.Link link : issue.getLinks()) {
+				for (final org.jboss.tools.windup.windup.Link link : issue.getSharedLinks()) {
 					Composite group = toolkit.createComposite(this);
 					group.setBackground(DETAILS_BACKGROUND_COLOR);
 					sections.add(group);
@@ -16,6 +16,7 @@ import org.eclipse.core.resources.IMarker;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.ui.IMarkerResolution;
 import org.eclipse.ui.IMarkerResolutionGenerator2;
+import org.jboss.tools.windup.model.domain.IssueIndexService;
 import org.jboss.tools.windup.model.domain.ModelService;
 import org.jboss.tools.windup.ui.internal.issues.IssueResolutions.FirstQuickFixResolution;
 import org.jboss.tools.windup.ui.internal.services.MarkerService;
@@ -27,6 +28,7 @@ import org.jboss.tools.windup.windup.Issue;
 public class IssueResolutionGenerator implements IMarkerResolutionGenerator2 {
 	
 	@Inject private ModelService modelService;
+	@Inject private IssueIndexService indexService;
 	@Inject private MarkerService markerService;
 	@Inject private IEventBroker broker;
 
@@ -42,8 +44,8 @@ public class IssueResolutionGenerator implements IMarkerResolutionGenerator2 {
 	}
 	
 	private IMarkerResolution[] collectResolutions(Issue issue) {
-		if (!issue.getQuickFixes().isEmpty()) {
-			return new IMarkerResolution[]{new FirstQuickFixResolution(modelService, markerService, broker, issue)};
+		if (!issue.getSharedQuickFixes().isEmpty()) {
+			return new IMarkerResolution[]{new FirstQuickFixResolution(modelService, indexService, markerService, broker, issue)};
 		}
 		return new IMarkerResolution[0];
 	}
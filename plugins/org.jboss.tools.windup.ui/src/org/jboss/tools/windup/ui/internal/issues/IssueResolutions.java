@@ -12,6 +12,7 @@ package org.jboss.tools.windup.ui.internal.issues;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.CoreException;
@@ -22,15 +23,18 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.actions.WorkspaceModifyOperation;
 import org.eclipse.ui.views.markers.WorkbenchMarkerResolution;
+import org.jboss.tools.windup.model.domain.IssueIndexService;
 import org.jboss.tools.windup.model.domain.ModelService;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.explorer.QuickFixUtil;
 import org.jboss.tools.windup.ui.internal.services.MarkerService;
+import org.jboss.tools.windup.windup.ConfigurationElement;
 import org.jboss.tools.windup.windup.Hint;
 import org.jboss.tools.windup.windup.Issue;
 import org.jboss.tools.windup.windup.QuickFix;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 /**
  * Windup's quick fix resolutions.
@@ -42,12 +46,15 @@ public class IssueResolutions {
 		private static String LABEL = "Apply first quick fix for the selected migration issue."; //$NON-NLS-1$ 
 		
 		private ModelService modelService;
+		private IssueIndexService indexService;
 		private MarkerService markerService;
 		private IEventBroker broker;
 		private Issue issue;
 		
-		public FirstQuickFixResolution(ModelService modelService, MarkerService markerService, IEventBroker broker, Issue issue) {
+		public FirstQuickFixResolution(ModelService modelService, IssueIndexService indexService, 
+				MarkerService markerService, IEventBroker broker, Issue issue) {
 			this.modelService = modelService;
+			this.indexService = indexService;
 			this.markerService = markerService;
 			this.broker = broker;
 			this.issue = issue;
@@ -70,10 +77,19 @@ public class IssueResolutions {
 		
 		@Override
 		public IMarker[] findOtherMarkers(IMarker[] markers) {
+			// only the issues of the configuration that reported this issue can be fixed along with it.
+			ConfigurationElement configuration = modelService.read(() -> ModelService.getConfiguration(issue));
+			if (configuration == null) {
+				return new IMarker[0];
+			}
 			List<IMarker> others = Lists.newArrayList();
+			Set<Issue> fixable = Sets.newHashSet(indexService.query().configuration(configuration).fixable().list());
+			fixable.remove(issue);
+			if (fixable.isEmpty()) {
+				return new IMarker[0];
+			}
 			for (IMarker marker : markers) {
-				Hint hint = modelService.findHint(marker);
-				if (this.issue != hint && !hint.isStale() && !hint.isFixed() && !hint.getQuickFixes().isEmpty()) {
+				if (fixable.contains(modelService.findIssue(marker))) {
 					others.add(marker);
 				}
 			}
@@ -88,7 +104,7 @@ public class IssueResolutions {
 						throws CoreException, InvocationTargetException, InterruptedException {
 					for (IMarker marker : markers) {
 						Hint hint = modelService.findHint(marker);
-						QuickFix quickFix = hint.getQuickFixes().get(0);
+						QuickFix quickFix = hint.getSharedQuickFixes().get(0);
 						QuickFixUtil.applyQuickFix(quickFix, hint, marker, broker, markerService);
 					}
 				}
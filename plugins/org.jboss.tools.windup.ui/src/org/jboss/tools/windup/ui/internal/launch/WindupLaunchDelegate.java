@@ -33,7 +33,6 @@ import org.jboss.tools.windup.core.services.WindupService;
 import org.jboss.tools.windup.model.domain.ModelService;
 import org.jboss.tools.windup.runtime.WindupRmiClient;
 import org.jboss.tools.windup.ui.internal.Messages;
-import org.jboss.tools.windup.ui.internal.services.MarkerService;
 import org.jboss.tools.windup.ui.util.WindupLauncher;
 import org.jboss.tools.windup.ui.util.WindupServerCallbackAdapter;
 import org.jboss.tools.windup.windup.ConfigurationElement;
@@ -49,7 +48,6 @@ public class WindupLaunchDelegate implements ILaunchConfigurationDelegate {
 	@Inject private WindupService windupService;
 	@Inject private IEventBroker broker;
 	@Inject private ModelService modelService;
-	@Inject private MarkerService markerService;
 	@Inject private WindupRmiClient windupClient;
 	@Inject @Named (IServiceConstants.ACTIVE_SHELL) Shell shell;
 	
@@ -62,7 +60,6 @@ public class WindupLaunchDelegate implements ILaunchConfigurationDelegate {
 			});
 		}
 		else {
-			markerService.deleteAllWindupMarkers();
 			if (windupClient.getExecutionBuilder() == null) {
 				launcher.start(new WindupServerCallbackAdapter(shell) {
 					@Override
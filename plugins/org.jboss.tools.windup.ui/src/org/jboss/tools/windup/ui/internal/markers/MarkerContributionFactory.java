@@ -1,11 +1,14 @@
 package org.jboss.tools.windup.ui.internal.markers;
 
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.ui.IWorkbenchPart;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.menus.ExtensionContributionFactory;
 import org.eclipse.ui.menus.IContributionRoot;
 import org.eclipse.ui.part.EditorPart;
 import org.eclipse.ui.services.IServiceLocator;
+import org.jboss.tools.windup.ui.internal.services.MarkerService;
 
 public class MarkerContributionFactory extends ExtensionContributionFactory
 {
@@ -16,7 +19,9 @@ public class MarkerContributionFactory extends ExtensionContributionFactory
         if (activePart instanceof EditorPart)
         {
             EditorPart editor = (EditorPart) activePart;
-            additions.addContributionItem(new MarkerMenuContribution(editor), null);
+            IEclipseContext context = serviceLocator.getService(IEclipseContext.class);
+            MarkerService markerService = ContextInjectionFactory.make(MarkerService.class, context);
+            additions.addContributionItem(new MarkerMenuContribution(editor, markerService), null);
         }
     }
 }
@@ -21,17 +21,20 @@ import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.ui.part.EditorPart;
 import org.eclipse.ui.part.FileEditorInput;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
+import org.jboss.tools.windup.ui.internal.services.MarkerService;
 
 public class MarkerMenuContribution extends ContributionItem
 {
 
     private EditorPart editor;
+    private MarkerService markerService;
     private IVerticalRulerInfo rulerInfo;
     private List<IMarker> markers;
 
-    public MarkerMenuContribution(EditorPart editor)
+    public MarkerMenuContribution(EditorPart editor, MarkerService markerService)
     {
         this.editor = editor;
+        this.markerService = markerService;
         this.rulerInfo = getRulerInfo();
         this.markers = getMarkers();
     }
@@ -102,7 +105,7 @@ public class MarkerMenuContribution extends ContributionItem
                 String message = marker.getAttribute(IMarker.MESSAGE, "");
                 try
                 {
-                    marker.delete();
+                    markerService.deleteMarker(marker);
                 }
                 catch (CoreException e)
                 {
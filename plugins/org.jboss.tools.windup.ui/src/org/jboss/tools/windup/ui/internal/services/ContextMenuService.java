@@ -103,7 +103,7 @@ public class ContextMenuService implements MouseListener, IMenuListener {
 		Issue issue = modelService.findIssue(marker);
 		if (issue instanceof Hint) {
 			Hint hint = (Hint)issue;
-			QuickFix quickFix = hint.getQuickFixes().get(0);
+			QuickFix quickFix = hint.getSharedQuickFixes().get(0);
 			QuickFixUtil.applyQuickFix(quickFix, hint, marker, broker, markerService);
 		}
 	}
@@ -205,7 +205,7 @@ public class ContextMenuService implements MouseListener, IMenuListener {
 			manager.add(SHOW_DETAILS_ACTION);
 			IMarker marker = markers.get(0);
 			Issue issue = modelService.findIssue(marker);
-			if (!issue.isStale() && !issue.isFixed() && !issue.getQuickFixes().isEmpty()) {
+			if (!issue.isStale() && !issue.isFixed() && !issue.getSharedQuickFixes().isEmpty()) {
 				manager.add(new WindupAction(Messages.PreviewQuickFix, null, this::previewQuickFix));
 				manager.add(new WindupAction(Messages.ApplyQuickFix, null, this::applyQuickFix));
 			}
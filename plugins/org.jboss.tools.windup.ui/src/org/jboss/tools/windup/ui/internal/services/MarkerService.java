@@ -12,26 +12,24 @@ package org.jboss.tools.windup.ui.internal.services;
 
 import static org.jboss.tools.windup.model.domain.WindupConstants.LAUNCH_COMPLETED;
 import static org.jboss.tools.windup.model.domain.WindupConstants.MARKERS_CHANGED;
-import static org.jboss.tools.windup.model.domain.WindupMarker.CLASSIFICATION;
-import static org.jboss.tools.windup.model.domain.WindupMarker.COLUMN;
-import static org.jboss.tools.windup.model.domain.WindupMarker.CONFIGURATION_ID;
-import static org.jboss.tools.windup.model.domain.WindupMarker.DESCRIPTION;
-import static org.jboss.tools.windup.model.domain.WindupMarker.EFFORT;
 import static org.jboss.tools.windup.model.domain.WindupMarker.ELEMENT_ID;
-import static org.jboss.tools.windup.model.domain.WindupMarker.HINT;
-import static org.jboss.tools.windup.model.domain.WindupMarker.LENGTH;
-import static org.jboss.tools.windup.model.domain.WindupMarker.LINE;
 import static org.jboss.tools.windup.model.domain.WindupMarker.RULE_ID;
-import static org.jboss.tools.windup.model.domain.WindupMarker.SEVERITY;
-import static org.jboss.tools.windup.model.domain.WindupMarker.SOURCE_SNIPPET;
-import static org.jboss.tools.windup.model.domain.WindupMarker.TITLE;
 import static org.jboss.tools.windup.model.domain.WindupMarker.URI_ID;
 import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_CLASSIFICATION_MARKER_ID;
 import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_HINT_MARKER_ID;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -40,21 +38,41 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.e4.core.di.annotations.Creatable;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.di.UIEventTopic;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jface.dialogs.MessageDialog;
-import org.eclipse.jface.dialogs.ProgressMonitorDialog;
 import org.eclipse.swt.widgets.Display;
-import org.eclipse.ui.actions.WorkspaceModifyOperation;
+import org.eclipse.ui.IEditorInput;
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IFileEditorInput;
+import org.eclipse.ui.IPartListener2;
+import org.eclipse.ui.IWindowListener;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchPartReference;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.PlatformUI;
+import org.jboss.tools.windup.model.domain.ColumnarIssueStore;
+import org.jboss.tools.windup.model.domain.IssueDelta;
+import org.jboss.tools.windup.model.domain.IssueDeltaService;
+import org.jboss.tools.windup.model.domain.IssueIndexService;
 import org.jboss.tools.windup.model.domain.ModelService;
+import org.jboss.tools.windup.model.domain.WindupConstants;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.Messages;
 import org.jboss.tools.windup.ui.internal.explorer.MarkerUtil;
@@ -63,9 +81,18 @@ import org.jboss.tools.windup.windup.ConfigurationElement;
 import org.jboss.tools.windup.windup.Hint;
 import org.jboss.tools.windup.windup.Input;
 import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupResult;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.BiMap;
+import com.google.common.collect.ConcurrentHashMultiset;
+import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.Sets;
 
 /**
  * Service for annotating eclipse {@link IResource}s with Windup's generated hints and classifications.
@@ -74,79 +101,581 @@ import com.google.common.collect.Maps;
 @Creatable
 public class MarkerService {
 	
+	/**
+	 * Configurations with more issues than this only have markers for the files being viewed.
+	 */
+	private static final int LAZY_MARKER_THRESHOLD = Integer.getInteger("windup.lazyMarkerThreshold", 50000); //$NON-NLS-1$
+	
 	@Inject private IEventBroker broker;
 	@Inject private ModelService modelService;
+	@Inject private IssueIndexService indexService;
+	@Inject private IssueDeltaService deltaService;
+	
+	/**
+	 * The configuration whose markers are created on demand, or null if all of its markers exist.
+	 */
+	private volatile ConfigurationElement lazyConfiguration;
+	
+	/**
+	 * The files with issues whose markers have not been created.
+	 */
+	private final Set<IFile> lazyFiles = Sets.newSetFromMap(Maps.newConcurrentMap());
+	
+	/**
+	 * The files open in editors, counted by editor, and the files expanded in the issue explorer.
+	 */
+	private final Multiset<IFile> openFiles = ConcurrentHashMultiset.create();
+	private final Set<IFile> expandedFiles = Sets.newSetFromMap(Maps.newConcurrentMap());
+	
+	/**
+	 * The pending jobs creating the markers of the files opened in editors.
+	 */
+	private final Map<IFile, Job> materializeJobs = Maps.newConcurrentMap();
+	
+	/**
+	 * The projects that may carry Windup markers. Markers are transient and created by this service,
+	 * so other projects are never searched for markers to delete.
+	 */
+	private final Set<IProject> markedProjects = Sets.newSetFromMap(Maps.newConcurrentMap());
+	
+	/**
+	 * The markers of the issues, by the URI of their issue, see {@link ModelService#getIssueURI(Issue)}. The markers
+	 * of issues held in an issue store are indexed by the URI of their row, which is the URI of the issue once it is
+	 * materialized.
+	 */
+	private final BiMap<String, IMarker> markerIndex = Maps.synchronizedBiMap(HashBiMap.<String, IMarker>create());
+	
+	private final Job deleteJob = new Job(WindupConstants.DELETING_MARKERS) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				deleteWindupMarkers(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (CoreException e) {
+				WindupUIPlugin.log(e);
+			} finally {
+				broker.post(MARKERS_CHANGED, true);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+	
+	private final IPartListener2 editorListener = new IPartListener2() {
+		@Override
+		public void partOpened(IWorkbenchPartReference partRef) {
+			IFile file = getEditorFile(partRef);
+			if (file != null) {
+				openFiles.add(file);
+				if (isLazy()) {
+					// don't hold up the editor while the file's issues are looked up.
+					Job job = new Job(WindupConstants.CREATING_MARKERS) {
+						@Override
+						protected IStatus run(IProgressMonitor monitor) {
+							try {
+								materializeMarkers(file, monitor);
+							} finally {
+								materializeJobs.remove(file, this);
+							}
+							return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+						}
+					};
+					job.setSystem(true);
+					job.setRule(file.getWorkspace().getRuleFactory().markerRule(file));
+					materializeJobs.put(file, job);
+					job.schedule();
+				}
+			}
+		}
+		@Override
+		public void partClosed(IWorkbenchPartReference partRef) {
+			IFile file = getEditorFile(partRef);
+			if (file != null) {
+				openFiles.remove(file);
+				if (isLazy()) {
+					// deleting markers takes the workspace lock, which must not be waited for on the UI thread.
+					Job job = new Job(WindupConstants.DELETING_MARKERS) {
+						@Override
+						protected IStatus run(IProgressMonitor monitor) {
+							// the markers still being created would otherwise be created after these are deleted.
+							Job pending = materializeJobs.get(file);
+							boolean canceled = pending != null && !openFiles.contains(file) && pending.cancel();
+							if (canceled) {
+								// a job canceled before it ran never removes itself.
+								materializeJobs.remove(file, pending);
+							}
+							else if (pending != null && pending.getState() == Job.RUNNING) {
+								// only a running job is joined, one waiting for this job's rule would never run.
+								try {
+									pending.join();
+								} catch (InterruptedException e) {
+									Thread.currentThread().interrupt();
+									return Status.CANCEL_STATUS;
+								}
+							}
+							releaseMarkers(file);
+							return Status.OK_STATUS;
+						}
+					};
+					job.setSystem(true);
+					job.setRule(file.getWorkspace().getRuleFactory().markerRule(file));
+					job.schedule();
+				}
+			}
+		}
+		@Override
+		public void partActivated(IWorkbenchPartReference partRef) {}
+		@Override
+		public void partBroughtToTop(IWorkbenchPartReference partRef) {}
+		@Override
+		public void partDeactivated(IWorkbenchPartReference partRef) {}
+		@Override
+		public void partHidden(IWorkbenchPartReference partRef) {}
+		@Override
+		public void partVisible(IWorkbenchPartReference partRef) {}
+		@Override
+		public void partInputChanged(IWorkbenchPartReference partRef) {}
+	};
+	
+	private final IWindowListener windowListener = new IWindowListener() {
+		@Override
+		public void windowOpened(IWorkbenchWindow window) {
+			track(window);
+		}
+		@Override
+		public void windowActivated(IWorkbenchWindow window) {}
+		@Override
+		public void windowDeactivated(IWorkbenchWindow window) {}
+		@Override
+		public void windowClosed(IWorkbenchWindow window) {}
+	};
+	
+	@PostConstruct
+	private void initialize() {
+		modelService.getModelAsync().thenRun(this::restoreMarkers);
+		Display.getDefault().asyncExec(() -> {
+			if (PlatformUI.isWorkbenchRunning()) {
+				PlatformUI.getWorkbench().addWindowListener(windowListener);
+				for (IWorkbenchWindow window : PlatformUI.getWorkbench().getWorkbenchWindows()) {
+					track(window);
+				}
+			}
+		});
+	}
+	
+	@PreDestroy
+	private void dispose() {
+		if (PlatformUI.isWorkbenchRunning()) {
+			PlatformUI.getWorkbench().removeWindowListener(windowListener);
+			for (IWorkbenchWindow window : PlatformUI.getWorkbench().getWorkbenchWindows()) {
+				window.getPartService().removePartListener(editorListener);
+			}
+		}
+	}
+	
+	/**
+	 * Windup markers are not persisted, the model already holds their issues. Recreates the markers
+	 * of the most recently run configuration once the model is loaded.
+	 */
+	private void restoreMarkers() {
+		ConfigurationElement configuration = modelService.getRecentConfiguration();
+		if (configuration == null || configuration.getLastRun() == 0) {
+			return;
+		}
+		Job job = new Job(WindupConstants.RESTORING_MARKERS) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					reconcileWindupMarkers(configuration, monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (CoreException e) {
+					WindupUIPlugin.log(e);
+				} finally {
+					broker.post(MARKERS_CHANGED, true);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.LONG);
+		job.schedule();
+	}
+	
+	/**
+	 * Tracks the editors of the specified window, including those already open.
+	 */
+	private void track(IWorkbenchWindow window) {
+		window.getPartService().addPartListener(editorListener);
+		for (IWorkbenchPage page : window.getPages()) {
+			for (IEditorReference editor : page.getEditorReferences()) {
+				editorListener.partOpened(editor);
+			}
+		}
+	}
+	
+	private static IFile getEditorFile(IWorkbenchPartReference partRef) {
+		if (partRef instanceof IEditorReference) {
+			try {
+				IEditorInput input = ((IEditorReference)partRef).getEditorInput();
+				if (input instanceof IFileEditorInput) {
+					return ((IFileEditorInput)input).getFile();
+				}
+			} catch (PartInitException e) {
+				WindupUIPlugin.log(e);
+			}
+		}
+		return null;
+	}
 	
 	/**
-	 * Creates markers for Windup migration issues. This is triggered after Windup has completed executing.  
+	 * Updates the markers of Windup migration issues. This is triggered after Windup has completed executing.
+	 * The markers are updated by a background job, so that large results don't freeze the workbench.
 	 */
 	@Inject
 	@Optional
 	public void updateMarkers(@UIEventTopic(LAUNCH_COMPLETED) ConfigurationElement configuration) {
-		try {
-			WorkspaceModifyOperation op = new WorkspaceModifyOperation() {
-				@Override
-				protected void execute(IProgressMonitor monitor)
-						throws CoreException, InvocationTargetException, InterruptedException {
-					monitor.beginTask(Messages.generateIssues, getTotalIssueCount(configuration));
-					monitor.subTask(Messages.generateIssues);
-					createWindupMarkers(configuration, monitor);
+		Job job = new Job(WindupConstants.CREATING_MARKERS) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					reconcileWindupMarkers(configuration, monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (CoreException e) {
+					WindupUIPlugin.log(e);
+					Display.getDefault().asyncExec(() -> {
+						MessageDialog.openError(Display.getDefault().getActiveShell(), 
+								Messages.launchErrorTitle, Messages.markersCreateError);
+					});
+				} finally {
+					broker.post(MARKERS_CHANGED, true);
 				}
-			};
-			new ProgressMonitorDialog(Display.getDefault().getActiveShell()).run(false, false, op);
-			broker.post(MARKERS_CHANGED, true);
-		} catch (InvocationTargetException | InterruptedException e) {
-			Display.getDefault().syncExec(() -> {
-				MessageDialog.openError(Display.getDefault().getActiveShell(), 
-						Messages.launchErrorTitle, Messages.markersCreateError);
-			});
-			WindupUIPlugin.log(e);
-		}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setUser(true);
+		job.schedule();
 	}
 	
 	public IMarker createFixedMarker(IMarker marker, Issue issue) {
-		issue.setFixed(true);
-		IMarker fixedMarker = MarkerService.createMarker(issue, marker.getResource());
+		modelService.update(() -> issue.setFixed(true));
+		return replaceMarker(marker, issue);
+	}
+	
+	/**
+	 * Marks the issue as stale, and replaces its marker with an informational one.
+	 */
+	public IMarker createStaleMarker(IMarker marker, Issue issue) {
+		modelService.update(() -> issue.setStale(true));
+		return replaceMarker(marker, issue);
+	}
+	
+	private IMarker replaceMarker(IMarker marker, Issue issue) {
+		IMarker updatedMarker = MarkerService.createMarker(issue, marker.getResource());
 		try {
-			fixedMarker.setAttributes(marker.getAttributes());
-			fixedMarker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+			updatedMarker.setAttributes(marker.getAttributes());
+			updatedMarker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
 			marker.delete();
+			indexMarker(updatedMarker);
 		} catch (CoreException e) {
 			WindupUIPlugin.log(e);
 		}
-		return fixedMarker;
+		return updatedMarker;
+	}
+	
+	/**
+	 * Deletes the marker of an issue at the user's request. The issue is marked as deleted, so its marker
+	 * is not created again when the markers are restored or created on demand.
+	 */
+	public void deleteMarker(IMarker marker) throws CoreException {
+		Issue issue = modelService.findIssue(marker);
+		if (issue != null) {
+			modelService.update(() -> issue.setDeleted(true));
+		}
+		marker.delete();
+		unindexMarker(marker);
 	}
 	
 	/**
 	 * Returns the total number of markers that will be created. Used for reporting progress.
 	 */
 	public int getTotalIssueCount(ConfigurationElement configuration) {
-		int count = 0;
-		for (Input input : configuration.getInputs()) {
-			if (input.getWindupResult() != null) {
-				count += input.getWindupResult().getIssues().size();
+		int count = indexService.query().configuration(configuration).count();
+		// materialized rows are part of their result, and already counted.
+		Integer stored = modelService.read(() -> {
+			int size = 0;
+			for (Input input : configuration.getInputs()) {
+				WindupResult result = input.getWindupResult();
+				if (result != null) {
+					size += modelService.getStoredIssueCount(result);
+				}
+			}
+			return size;
+		});
+		return stored != null ? count + stored : count;
+	}
+	
+	/**
+	 * Reconciles the workspace's Windup markers with the issues contained in the provided configuration.
+	 * 
+	 * Existing markers are matched with the configuration's issues by a key made of the marker's type, resource,
+	 * line, message and rule. Matched markers are only updated if their attributes differ, markers without a
+	 * matching issue are deleted, and markers are only created for issues without a matching marker. This keeps
+	 * the resource change events, and the work of every listener processing them, proportional to what changed.
+	 * Markers reference their issue by a URI that an issue reported again keeps across runs, so the markers of
+	 * unchanged issues are left untouched. The marker of an issue the new run reports at another line, as computed
+	 * by the {@link IssueDeltaService}, is moved to the issue's new line rather than replaced.
+	 * 
+	 * The markers of each project are reconciled in a single workspace operation holding only that project's rule,
+	 * so each project yields a single resource change event, and other projects remain available meanwhile.
+	 * 
+	 * If the configuration has more issues than {@link #LAZY_MARKER_THRESHOLD}, markers are only created for the
+	 * files open in editors. The markers of other files are created on demand, see {@link #showMarkers(IFile)}.
+	 */
+	public void reconcileWindupMarkers(ConfigurationElement configuration, IProgressMonitor monitor) throws CoreException {
+		int count = getTotalIssueCount(configuration);
+		SubMonitor progress = SubMonitor.convert(monitor, Messages.generateIssues, count);
+		awaitDeletion();
+		boolean lazy = count > LAZY_MARKER_THRESHOLD;
+		lazyConfiguration = lazy ? configuration : null;
+		lazyFiles.clear();
+		expandedFiles.clear();
+		Predicate<IFile> include = lazy ? openFiles::contains : file -> true;
+		ListMultimap<IProject, PendingMarker> markers = ArrayListMultimap.create();
+		Map<IResource, String> elementIds = Maps.newHashMap();
+		modelService.read(() -> {
+			for (Input input : configuration.getInputs()) {
+				WindupResult result = input.getWindupResult();
+				if (result != null) {
+					collectMarkers(result, include, elementIds, getMovedIssues(input), markers);
+				}
+			}
+		});
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		for (IProject project : workspace.getRoot().getProjects()) {
+			if (progress.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			List<PendingMarker> projectMarkers = markers.get(project);
+			if (!project.isAccessible() || (projectMarkers.isEmpty() && !markedProjects.contains(project))) {
+				continue;
+			}
+			if (!projectMarkers.isEmpty()) {
+				markedProjects.add(project);
+			}
+			workspace.run(projectMonitor -> reconcileProjectMarkers(project, projectMarkers, projectMonitor), 
+					project, IWorkspace.AVOID_UPDATE, progress.newChild(projectMarkers.size()));
+			if (projectMarkers.isEmpty()) {
+				markedProjects.remove(project);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the issues of the input's current result that its previous run reported at another line, mapped to
+	 * the URI of the previous run's issue, which their markers still reference. The previous run is only looked up
+	 * if markers may exist, markers are not persisted.
+	 */
+	private Map<Issue, String> getMovedIssues(Input input) {
+		Map<Issue, String> moved = Maps.newHashMap();
+		IssueDelta delta = !markedProjects.isEmpty() ? deltaService.computeSinceLastRun(input) : null;
+		if (delta != null) {
+			delta.getMoved().forEach((previous, current) -> moved.put(current, modelService.getIssueURI(previous)));
+		}
+		return moved;
+	}
+	
+	private void reconcileProjectMarkers(IProject project, List<PendingMarker> markers, IProgressMonitor monitor) throws CoreException {
+		SubMonitor progress = SubMonitor.convert(monitor, markers.size());
+		Map<String, Deque<IMarker>> existing = Maps.newHashMap();
+		Map<String, IMarker> existingByURI = Maps.newHashMap();
+		for (IMarker marker : findWindupMarkers(project)) {
+			existing.computeIfAbsent(PendingMarker.getKey(marker), key -> new ArrayDeque<>()).add(marker);
+			String uri = marker.getAttribute(URI_ID, null);
+			if (uri != null) {
+				existingByURI.put(uri, marker);
+			}
+		}
+		for (PendingMarker marker : markers) {
+			IMarker match = marker.match(existing.get(marker.getKey()));
+			if (match == null && marker.getPreviousURI() != null) {
+				// the issue moved, its marker is found by the URI of the previous run's issue.
+				IMarker previous = existingByURI.get(marker.getPreviousURI());
+				Deque<IMarker> candidates = previous != null ? existing.get(PendingMarker.getKey(previous)) : null;
+				if (candidates != null && candidates.remove(previous)) {
+					match = previous;
+				}
+			}
+			if (match != null) {
+				marker.update(match);
+				// the issue of a matched marker belongs to the new run.
+				indexMarker(match);
+			}
+			else {
+				indexMarker(marker.create());
+			}
+			progress.worked(1);
+		}
+		List<IMarker> obsolete = Lists.newArrayList();
+		existing.values().forEach(obsolete::addAll);
+		if (!obsolete.isEmpty()) {
+			project.getWorkspace().deleteMarkers(obsolete.toArray(new IMarker[obsolete.size()]));
+			obsolete.forEach(this::unindexMarker);
+		}
+	}
+	
+	private static IMarker[] findWindupMarkers(IResource resource) throws CoreException {
+		IMarker[] hints = resource.findMarkers(WINDUP_HINT_MARKER_ID, true, IResource.DEPTH_INFINITE);
+		IMarker[] classifications = resource.findMarkers(WINDUP_CLASSIFICATION_MARKER_ID, true, IResource.DEPTH_INFINITE);
+		return (IMarker[])ArrayUtils.addAll(hints, classifications);
+	}
+	
+	/**
+	 * Collects the markers of the result's issues in the files accepted by the specified filter. The
+	 * files of the issues that are filtered out are recorded as having markers to create on demand.
+	 */
+	private void collectMarkers(WindupResult result, Predicate<IFile> include, Map<IResource, String> elementIds,
+			Map<Issue, String> movedIssues, ListMultimap<IProject, PendingMarker> markers) {
+		for (Issue issue : result.getIssues()) {
+			if (issue.isDeleted()) {
+				continue;
 			}
+			IFile resource = ModelService.getIssueResource(issue);
+			if (resource == null) {
+				WindupUIPlugin.logErrorMessage("MarkerService:: No resource associated with issue file: " + issue.getFileAbsolutePath()); //$NON-NLS-1$
+				continue;
+			}
+			if (!include.test(resource)) {
+				lazyFiles.add(resource);
+				continue;
+			}
+			String elementId = elementIds.computeIfAbsent(resource, MarkerService::getElementId);
+			PendingMarker marker = createWindupMarker(issue, resource, elementId);
+			marker.setPreviousURI(movedIssues.get(issue));
+			markers.put(resource.getProject(), marker);
+		}
+		ColumnarIssueStore store = modelService.getIssueStore(result);
+		if (store != null) {
+			collectMarkers(result, store, include, elementIds, markers);
+		}
+	}
+	
+	/**
+	 * Collects markers for the rows of the result's issue store that have not been materialized into the result.
+	 * The markers reference the rows by id, so their issues are only materialized once the UI resolves them.
+	 */
+	private void collectMarkers(WindupResult result, ColumnarIssueStore store, Predicate<IFile> include, 
+			Map<IResource, String> elementIds, ListMultimap<IProject, PendingMarker> markers) {
+		for (int row = 0; row < store.size(); row++) {
+			if (modelService.isMaterialized(result, row)) {
+				continue;
+			}
+			IFile resource = ModelService.getResource(store.getFileAbsolutePath(row));
+			if (resource == null) {
+				WindupUIPlugin.logErrorMessage("MarkerService:: No resource associated with issue file: " + store.getFileAbsolutePath(row)); //$NON-NLS-1$
+				continue;
+			}
+			if (!include.test(resource)) {
+				lazyFiles.add(resource);
+				continue;
+			}
+			String elementId = elementIds.computeIfAbsent(resource, MarkerService::getElementId);
+			markers.put(resource.getProject(), createWindupMarker(result, store, row, resource, elementId));
+		}
+	}
+	
+	/**
+	 * Returns true if the markers of the current configuration are created on demand.
+	 */
+	public boolean isLazy() {
+		return lazyConfiguration != null;
+	}
+	
+	/**
+	 * Returns the files with issues whose markers have not been created yet.
+	 */
+	public Set<IFile> getLazyFiles() {
+		return Collections.unmodifiableSet(lazyFiles);
+	}
+	
+	/**
+	 * Creates the markers of the specified file if they are created on demand, and keeps them until the next run.
+	 * Called when the file is expanded in the issue explorer.
+	 */
+	public void showMarkers(IFile file) {
+		if (isLazy()) {
+			expandedFiles.add(file);
+			materializeMarkers(file, null);
 		}
-		return count;
 	}
 	
 	/**
-	 * Creates markers for Windup migration issues contained in the provided configuration.
+	 * Creates the markers of the specified file, if they are created on demand and don't exist yet.
+	 * Model issues are looked up through the issue index, stored issues through the store's file index.
+	 * If the monitor is canceled before the markers are created, the file's markers remain to be created.
 	 */
-	public void createWindupMarkers(ConfigurationElement configuration, IProgressMonitor monitor) throws CoreException {
-		int count = 0;
-		for (Input input : configuration.getInputs()) {
-			if (input.getWindupResult() != null) {
-				for (Issue issue : input.getWindupResult().getIssues()) {
-					IFile resource = ModelService.getIssueResource(issue);
-					if (resource == null) {
-						WindupUIPlugin.logErrorMessage("MarkerService:: No resource associated with issue file: " + issue.getFileAbsolutePath()); //$NON-NLS-1$
-						continue;
+	private void materializeMarkers(IFile file, IProgressMonitor monitor) {
+		ConfigurationElement configuration = lazyConfiguration;
+		if (configuration == null || !lazyFiles.remove(file)) {
+			return;
+		}
+		List<PendingMarker> markers = Lists.newArrayList();
+		String elementId = getElementId(file);
+		for (Issue issue : indexService.query().configuration(configuration).file(file).list()) {
+			if (!issue.isDeleted()) {
+				markers.add(createWindupMarker(issue, file, elementId));
+			}
+		}
+		modelService.read(() -> {
+			for (Input input : configuration.getInputs()) {
+				WindupResult result = input.getWindupResult();
+				int[] rows = result != null ? modelService.getStoredRows(result, file) : null;
+				if (rows == null) {
+					continue;
+				}
+				ColumnarIssueStore store = modelService.getIssueStore(result);
+				for (int row : rows) {
+					if (!modelService.isMaterialized(result, row)) {
+						markers.add(createWindupMarker(result, store, row, file, elementId));
 					}
-					createWindupMarker(issue, configuration, resource);
-					monitor.worked(++count);
 				}
 			}
+		});
+		if (monitor != null && monitor.isCanceled()) {
+			lazyFiles.add(file);
+			return;
+		}
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		markedProjects.add(file.getProject());
+		try {
+			workspace.run(runMonitor -> {
+				for (PendingMarker marker : markers) {
+					indexMarker(marker.create());
+				}
+			}, workspace.getRuleFactory().markerRule(file), IWorkspace.AVOID_UPDATE, null);
+		} catch (CoreException e) {
+			WindupUIPlugin.log(e);
+		}
+	}
+	
+	/**
+	 * Deletes the markers of the specified file if they are created on demand, and the file is no longer viewed.
+	 */
+	private void releaseMarkers(IFile file) {
+		if (!isLazy() || openFiles.contains(file) || expandedFiles.contains(file) || !file.isAccessible()) {
+			return;
+		}
+		try {
+			IMarker[] markers = findWindupMarkers(file);
+			if (markers.length > 0) {
+				file.getWorkspace().deleteMarkers(markers);
+				Arrays.stream(markers).forEach(this::unindexMarker);
+				lazyFiles.add(file);
+				broker.post(MARKERS_CHANGED, true);
+			}
+		} catch (CoreException e) {
+			WindupUIPlugin.log(e);
 		}
 	}
 	
@@ -161,105 +690,239 @@ public class MarkerService {
 	}
 	
 	/**
-	 * Helper method that actually creates the marker on the specified resource for the specified Windup migration issue.
+	 * Returns the handle identifier of the Java element of the specified resource, or an empty string if it has none.
+	 * The handle is computed once per file and shared by the file's markers. Creating the handle doesn't open the
+	 * element, so this leaves the Java model's cache untouched.
 	 */
-	private void createWindupMarker(Issue issue, ConfigurationElement configuration, IResource resource) throws CoreException {
-	
-		IMarker marker = createMarker(issue, resource);
-		marker.setAttribute(CONFIGURATION_ID, configuration.getName());
-		
+	private static String getElementId(IResource resource) {
 		IJavaElement element = JavaCore.create(resource);
-		if (element != null) {
-			marker.setAttribute(ELEMENT_ID, element.getHandleIdentifier());
-		}
-		marker.setAttribute(URI_ID, EcoreUtil.getURI(issue).toString());
-		marker.setAttribute(IMarker.SEVERITY, MarkerUtil.convertSeverity(issue.getSeverity()));
-		marker.setAttribute(SEVERITY, issue.getSeverity());
-        marker.setAttribute(RULE_ID, issue.getRuleId());
-        marker.setAttribute(EFFORT, issue.getEffort());
+		return element != null ? element.getHandleIdentifier() : "";
+	}
+	
+	/**
+	 * Collects the attributes of the marker for the specified row of the result's issue store.
+	 */
+	private PendingMarker createWindupMarker(WindupResult result, ColumnarIssueStore store, int row, 
+			IResource resource, String elementId) {
+		PendingMarker marker = new PendingMarker(resource, WINDUP_HINT_MARKER_ID);
+		if (!elementId.isEmpty()) {
+			marker.set(ELEMENT_ID, elementId);
+		}
+		marker.set(URI_ID, modelService.getIssueURI(result, row));
+		marker.set(RULE_ID, store.getRuleId(row));
+		marker.set(IMarker.SEVERITY, MarkerUtil.convertSeverity(store.getSeverity(row)));
+		marker.set(IMarker.MESSAGE, store.getTitle(row));
+		marker.set(IMarker.LINE_NUMBER, store.getLineNumber(row));
+		marker.set(IMarker.USER_EDITABLE, false);
+		return marker;
+	}
+	
+	/**
+	 * Helper method that collects the attributes of the marker for the specified Windup migration issue.
+	 */
+	private PendingMarker createWindupMarker(Issue issue, IResource resource, String elementId) {
+		String type = issue instanceof Classification ? WINDUP_CLASSIFICATION_MARKER_ID : WINDUP_HINT_MARKER_ID;
+		PendingMarker marker = new PendingMarker(resource, type);
+		if (!elementId.isEmpty()) {
+			marker.set(ELEMENT_ID, elementId);
+		}
+		marker.set(URI_ID, modelService.getIssueURI(issue));
+		marker.set(RULE_ID, issue.getRuleId());
+		// fixed and stale issues no longer need attention, see replaceMarker(IMarker, Issue).
+		int severity = issue.isFixed() || issue.isStale() ? IMarker.SEVERITY_INFO : MarkerUtil.convertSeverity(issue.getSeverity());
+		marker.set(IMarker.SEVERITY, severity);
 		
 		if (issue instanceof Hint) {
 			Hint hint = (Hint)issue;
-			
-			marker.setAttribute(IMarker.MESSAGE, hint.getTitle());
-			marker.setAttribute(IMarker.LINE_NUMBER, hint.getLineNumber());
-			
-			marker.setAttribute(TITLE, hint.getTitle());
-			marker.setAttribute(HINT, hint.getHint());
-			marker.setAttribute(LINE, hint.getLineNumber());
-			marker.setAttribute(COLUMN, hint.getColumn());
-			marker.setAttribute(LENGTH, hint.getLength());
-			
-			marker.setAttribute(SOURCE_SNIPPET, hint.getSourceSnippet());
+			marker.set(IMarker.MESSAGE, hint.getTitle());
+			marker.set(IMarker.LINE_NUMBER, hint.getLineNumber());
 		}
 		else {
 			Classification classification = (Classification)issue;
-			marker.setAttribute(IMarker.MESSAGE, classification.getClassification());
-			marker.setAttribute(CLASSIFICATION, classification.getClassification());
-			marker.setAttribute(DESCRIPTION, classification.getDescription());
-			
-			marker.setAttribute(IMarker.LINE_NUMBER, 1);
-			marker.setAttribute(IMarker.CHAR_START, 0);
-			marker.setAttribute(IMarker.CHAR_END, 0);
+			marker.set(IMarker.MESSAGE, classification.getClassification());
+			marker.set(IMarker.LINE_NUMBER, 1);
+			marker.set(IMarker.CHAR_START, 0);
+			marker.set(IMarker.CHAR_END, 0);
 		}
-        marker.setAttribute(IMarker.USER_EDITABLE, false);
+        marker.set(IMarker.USER_EDITABLE, false);
+        return marker;
 	}
 	
 	/**
-	 * Deletes all Windup markers on all projects within the workspace.
+	 * A marker to be created or updated, along with its attributes. The attributes are set by a single call,
+	 * rather than by a call per attribute, each of which would be a separate marker change.
 	 */
-	public void deleteAllWindupMarkers() {
-		for (IProject input : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
-			if (input.isAccessible()) {
-				deleteWindupMarkers(input);
+	private static class PendingMarker {
+		
+		private static final char SEPARATOR = '\u0000';
+		
+		private final IResource resource;
+		private final String type;
+		private final Map<String, Object> attributes = Maps.newLinkedHashMap();
+		private String previousURI;
+		
+		public PendingMarker(IResource resource, String type) {
+			this.resource = resource;
+			this.type = type;
+		}
+		
+		public void set(String name, Object value) {
+			attributes.put(name, value);
+		}
+		
+		/**
+		 * Returns the URI of the previous run's issue that this marker's issue moved from, or null if it didn't move.
+		 */
+		public String getPreviousURI() {
+			return previousURI;
+		}
+		
+		public void setPreviousURI(String previousURI) {
+			this.previousURI = previousURI;
+		}
+		
+		public IMarker create() throws CoreException {
+			IMarker marker = resource.createMarker(type);
+			setAttributes(marker, attributes);
+			return marker;
+		}
+		
+		/**
+		 * Updates the attributes of the specified marker that differ from this marker's. Leaves the marker untouched if none differ.
+		 */
+		public void update(IMarker marker) throws CoreException {
+			Map<String, Object> current = marker.getAttributes();
+			Map<String, Object> changed = Maps.newLinkedHashMap();
+			attributes.forEach((name, value) -> {
+				if (!Objects.equal(value, current != null ? current.get(name) : null)) {
+					changed.put(name, value);
+				}
+			});
+			if (!changed.isEmpty()) {
+				setAttributes(marker, changed);
+			}
+		}
+		
+		private static void setAttributes(IMarker marker, Map<String, Object> attributes) throws CoreException {
+			marker.setAttributes(attributes.keySet().toArray(new String[attributes.size()]), attributes.values().toArray());
+		}
+		
+		/**
+		 * Removes the marker to update with this marker's attributes from the specified candidates sharing this
+		 * marker's key, preferring the marker that already references this marker's issue.
+		 * 
+		 * @return the removed marker, or null if there are no candidates.
+		 */
+		public IMarker match(Deque<IMarker> candidates) {
+			if (candidates == null || candidates.isEmpty()) {
+				return null;
+			}
+			Object uri = attributes.get(URI_ID);
+			for (Iterator<IMarker> iter = candidates.iterator(); iter.hasNext();) {
+				IMarker candidate = iter.next();
+				if (uri.equals(candidate.getAttribute(URI_ID, null))) {
+					iter.remove();
+					return candidate;
+				}
 			}
+			return candidates.poll();
+		}
+		
+		public String getKey() {
+			return getKey(type, resource, attributes.get(IMarker.LINE_NUMBER), attributes.get(IMarker.MESSAGE), 
+					attributes.get(RULE_ID));
+		}
+		
+		/**
+		 * Returns the key matching the specified existing marker with the marker of the same issue in a new run.
+		 */
+		public static String getKey(IMarker marker) throws CoreException {
+			return getKey(marker.getType(), marker.getResource(), marker.getAttribute(IMarker.LINE_NUMBER), 
+					marker.getAttribute(IMarker.MESSAGE), marker.getAttribute(RULE_ID));
+		}
+		
+		private static String getKey(String type, IResource resource, Object line, Object message, Object ruleId) {
+			StringBuilder key = new StringBuilder();
+			key.append(type).append(SEPARATOR);
+			key.append(resource.getFullPath()).append(SEPARATOR);
+			key.append(line).append(SEPARATOR);
+			key.append(message).append(SEPARATOR);
+			key.append(ruleId);
+			return key.toString();
 		}
-		broker.post(MARKERS_CHANGED, true);
 	}
 	
 	/**
-	 * Deletes all Windup markers assigned to the specified resource.
+	 * Deletes all Windup markers in the background. Only the projects known to carry markers are visited,
+	 * and their markers are deleted in a single workspace operation, so a single resource change event is sent.
 	 */
-	private void deleteWindupMarkers(IResource input) {
-		try {
-			input.deleteMarkers(WINDUP_HINT_MARKER_ID, true, IResource.DEPTH_INFINITE);
-			input.deleteMarkers(WINDUP_CLASSIFICATION_MARKER_ID, true, IResource.DEPTH_INFINITE);
-		} catch (CoreException e) {
-			WindupUIPlugin.log(e);
+	public void deleteAllWindupMarkers() {
+		lazyConfiguration = null;
+		lazyFiles.clear();
+		expandedFiles.clear();
+		deleteJob.schedule();
+	}
+	
+	private void deleteWindupMarkers(IProgressMonitor monitor) throws CoreException {
+		List<IProject> projects = Lists.newArrayList(markedProjects);
+		if (projects.isEmpty()) {
+			return;
 		}
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		ISchedulingRule rule = MultiRule.combine(projects.toArray(new ISchedulingRule[projects.size()]));
+		workspace.run(deleteMonitor -> {
+			SubMonitor progress = SubMonitor.convert(deleteMonitor, projects.size());
+			for (IProject project : projects) {
+				if (progress.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				if (project.isAccessible()) {
+					project.deleteMarkers(WINDUP_HINT_MARKER_ID, true, IResource.DEPTH_INFINITE);
+					project.deleteMarkers(WINDUP_CLASSIFICATION_MARKER_ID, true, IResource.DEPTH_INFINITE);
+				}
+				synchronized (markerIndex) {
+					markerIndex.values().removeIf(marker -> project.equals(marker.getResource().getProject()));
+				}
+				markedProjects.remove(project);
+				progress.worked(1);
+			}
+		}, rule, IWorkspace.AVOID_UPDATE, monitor);
 	}
 	
 	/**
-	 * Returns issue/marker pairs associated with the specified resource. 
+	 * Waits for pending deletions, so they don't delete the markers about to be created.
 	 */
-	public Map<Issue, IMarker> buildIssueMarkerMap(IResource resource) {
-		Map<Issue, IMarker> map = Maps.newHashMap();
+	private void awaitDeletion() {
 		try {
-			IMarker[] markers = resource.findMarkers(WINDUP_HINT_MARKER_ID, true, IResource.DEPTH_INFINITE);
-			for (IMarker marker : markers) {
-				map.put(modelService.findIssue(marker), marker);
-			}
-		} catch (CoreException e) {
-			WindupUIPlugin.log(e);
+			deleteJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
-		return map;
 	}
 	
-	public static IMarker findMarker(IResource resource, Issue issue, ModelService modelService) {
-		IMarker result = null;
-		try {
-			IMarker[] hints = resource.findMarkers(WINDUP_HINT_MARKER_ID, true, IResource.DEPTH_INFINITE);
-			IMarker[] classifications = resource.findMarkers(WINDUP_CLASSIFICATION_MARKER_ID, true, IResource.DEPTH_INFINITE);
-			IMarker[] markers = (IMarker[]) ArrayUtils.addAll(hints, classifications);
-			for (IMarker marker : markers) {
-				Issue markerIssue = modelService.findIssue(marker);
-				if (Objects.equal(issue, markerIssue)) {
-					return marker;
-				}
-			}
-		} catch (CoreException e) {
-			WindupUIPlugin.log(e);
+	/**
+	 * Returns the marker of the specified issue, or null if it has none.
+	 */
+	public IMarker findMarker(Issue issue) {
+		String uri = modelService.getIssueURI(issue);
+		IMarker marker = markerIndex.get(uri);
+		if (marker != null && !marker.exists()) {
+			// the marker was deleted without going through this service.
+			markerIndex.remove(uri);
+			return null;
+		}
+		return marker;
+	}
+	
+	private void indexMarker(IMarker marker) {
+		String uri = marker.getAttribute(URI_ID, null);
+		if (uri != null) {
+			// replaces the previous marker of the issue, and the previous issue of the marker.
+			markerIndex.forcePut(uri, marker);
 		}
-		return result;
+	}
+	
+	private void unindexMarker(IMarker marker) {
+		markerIndex.inverse().remove(marker);
 	}
 }
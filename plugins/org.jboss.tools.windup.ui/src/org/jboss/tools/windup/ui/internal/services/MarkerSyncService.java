@@ -12,7 +12,10 @@ package org.jboss.tools.windup.ui.internal.services;
 
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -25,23 +28,86 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.e4.core.services.events.IEventBroker;
+import org.jboss.tools.windup.model.domain.ModelService;
+import org.jboss.tools.windup.model.domain.StaleIssueDetector;
+import org.jboss.tools.windup.model.domain.StaleIssueDetector.Changes;
 import org.jboss.tools.windup.model.domain.WindupConstants;
-import org.jboss.tools.windup.model.util.DocumentUtils;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.windup.Hint;
-import org.jboss.tools.windup.windup.Issue;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 /**
  * Service for synchronizing Windup markers with resources changes.
+ * 
+ * The resource change listener only records the changed files. They are checked for stale issues by a background
+ * job once changes have settled, so the workspace notification and the build aren't held up, and a burst of changes,
+ * such as a checkout, is processed as a single pass over the changed files.
  */
 public class MarkerSyncService implements IResourceChangeListener, IResourceDeltaVisitor {
 	
+	/**
+	 * Idle period, in milliseconds, after the last change before the changed files are checked.
+	 */
+	private static final long SYNC_DELAY = 500;
+	
+	/**
+	 * Number of files whose markers are updated within a single workspace operation.
+	 */
+	private static final int BATCH_SIZE = 200;
+	
+	@Inject private ModelService modelService;
 	@Inject private MarkerService markerService;
+	@Inject private StaleIssueDetector staleIssueDetector;
 	@Inject private IEventBroker broker;
 	
+	private final Set<IFile> changedFiles = Sets.newSetFromMap(Maps.newConcurrentMap());
+	
+	private final Job syncJob = new Job(WindupConstants.DETECTING_STALE_ISSUES) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			List<IFile> files = Lists.newArrayList();
+			for (Iterator<IFile> it = changedFiles.iterator(); it.hasNext();) {
+				files.add(it.next());
+				it.remove();
+			}
+			SubMonitor progress = SubMonitor.convert(monitor, files.size());
+			for (List<IFile> batch : Lists.partition(files, BATCH_SIZE)) {
+				if (progress.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				try {
+					sync(batch);
+				} catch (CoreException e) {
+					WindupUIPlugin.log(e);
+				}
+				progress.worked(batch.size());
+			}
+			return Status.OK_STATUS;
+		}
+		
+		@Override
+		public boolean belongsTo(Object family) {
+			return WindupConstants.DETECTING_STALE_ISSUES.equals(family);
+		}
+	};
+	{
+		syncJob.setSystem(true);
+	}
+	
 	@Override
 	public void resourceChanged(IResourceChangeEvent event) {
 		try {
@@ -49,6 +115,10 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 		} catch (CoreException e) {
 			WindupUIPlugin.log(e);
 		}
+		if (!changedFiles.isEmpty()) {
+			// rescheduling a sleeping job resets its delay.
+			syncJob.schedule(SYNC_DELAY);
+		}
 	}
 	
 	@Override
@@ -58,10 +128,7 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 			switch (delta.getKind()) {
 				case IResourceDelta.CHANGED: {
 					if ((delta.getFlags() & IResourceDelta.CONTENT) != 0) {
-						Map<Issue, IMarker> map = markerService.buildIssueMarkerMap(resource);
-						if (!map.isEmpty()) {
-							update(resource, map);
-						}
+						changedFiles.add((IFile)resource);
 					}
 				}
 			}
@@ -70,34 +137,57 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 	}
 	
 	/**
-	 * Marks issues as stale if the issue's original line of code differs from the current. 
+	 * Checks the specified files for stale issues, and updates the markers of all of them in a single workspace operation.
 	 */
-	private void update(IResource resource, Map<Issue, IMarker> map) {
-		for (Issue issue : map.keySet()) {
-			if (issue instanceof Hint && !issue.isStale() && !issue.isFixed()) {
-				IMarker marker = map.get(issue);
-				int lineNumber = marker.getAttribute(IMarker.LINE_NUMBER, ((Hint)issue).getLineNumber());
-				if (DocumentUtils.differs(resource, lineNumber-1, issue.getOriginalLineSource())) {
-					issue.setStale(true);
-					try {
-						Map<String, Object> attributes = marker.getAttributes();
-						marker.delete();
-						IMarker updatedMarker = MarkerService.createMarker(issue, resource);
-						updatedMarker.setAttributes(attributes);
-						updatedMarker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
-						setStale(marker, updatedMarker);
-					} catch (CoreException e) {
-						WindupUIPlugin.log(e);
-					}
+	private void sync(List<IFile> files) throws CoreException {
+		Map<IFile, Changes> fileChanges = Maps.newLinkedHashMap();
+		for (IFile file : files) {
+			if (file.isAccessible()) {
+				Changes changes = staleIssueDetector.detectChanges(file);
+				if (!changes.isEmpty()) {
+					fileChanges.put(file, changes);
 				}
 			}
 		}
+		if (!fileChanges.isEmpty()) {
+			IWorkspace workspace = ResourcesPlugin.getWorkspace();
+			ISchedulingRule rule = MultiRule.combine(fileChanges.keySet().stream()
+					.map(file -> workspace.getRuleFactory().markerRule(file)).toArray(ISchedulingRule[]::new));
+			workspace.run(monitor -> fileChanges.forEach(this::update), rule, IWorkspace.AVOID_UPDATE, null);
+		}
+	}
+	
+	/**
+	 * Moves the markers of the issues that were re-anchored, marks the stale issues as stale, and updates their markers.
+	 */
+	private void update(IResource resource, Changes changes) {
+		changes.getMoved().forEach((issue, line) -> {
+			IMarker marker = markerService.findMarker(issue);
+			// markers of open editors are already moved by the editor.
+			if (marker != null && marker.getAttribute(IMarker.LINE_NUMBER, -1) != line) {
+				try {
+					marker.setAttribute(IMarker.LINE_NUMBER, line);
+					markerChanged(marker, marker);
+				} catch (CoreException e) {
+					WindupUIPlugin.log(e);
+				}
+			}
+		});
+		for (Hint issue : changes.getStale()) {
+			IMarker marker = markerService.findMarker(issue);
+			if (marker == null) {
+				// the markers of the file are created on demand.
+				modelService.update(() -> issue.setStale(true));
+				continue;
+			}
+			markerChanged(marker, markerService.createStaleMarker(marker, issue));
+		}
 	}
 	
 	/**
-	 * Updates the specified marker's severity to 'stale'.
+	 * Notifies the issue explorer that the specified marker was updated, or replaced by the updated marker.
 	 */
-	private void setStale(IMarker original, IMarker update) {
+	private void markerChanged(IMarker original, IMarker update) {
 		Dictionary<String, Object> props = new Hashtable<String, Object>();
 		props.put(WindupConstants.EVENT_ISSUE_MARKER, original);
 		props.put(WindupConstants.EVENT_ISSUE_MARKER_UPDATE, update);
@@ -112,5 +202,6 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 	@PreDestroy
 	private void dispose() {
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		syncJob.cancel();
 	}
 }
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import static org.jboss.tools.windup.model.test.ModelFixture.createHint;
+import static org.jboss.tools.windup.model.test.ModelFixture.createResourceSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.jboss.tools.windup.model.util.PayloadPool;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link ColumnarIssueStore}, and the materialization of its rows by their resource.
+ */
+public class ColumnarIssueStoreTest {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	private final PayloadPool pool = new PayloadPool(WindupFactory.eINSTANCE.createWindupResult());
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		File directory = folder.newFolder("store");
+		Hint first = createStoredHint("rule-1", 10);
+		Hint second = createStoredHint("rule-2", 20);
+		second.getSharedLinks().clear();
+		second.getSharedQuickFixes().clear();
+		try (ColumnarIssueStore.Writer writer = new ColumnarIssueStore.Writer(directory)) {
+			assertEquals(0, writer.add(first));
+			assertEquals(1, writer.add(second));
+		}
+		ColumnarIssueStore store = ColumnarIssueStore.open(directory);
+		assertEquals(2, store.size());
+		assertEquals("rule-2", store.getRuleId(1));
+		assertEquals(20, store.getLineNumber(1));
+		// strings shared by rows are read back as the same instance.
+		assertSame(store.getFileAbsolutePath(0), store.getFileAbsolutePath(1));
+
+		first.setId(ColumnarIssueStore.getId(0));
+		second.setId(ColumnarIssueStore.getId(1));
+		Hint materialized = store.materialize(0, pool);
+		assertTrue(EcoreUtil.equals(first, materialized));
+		assertTrue(EcoreUtil.equals(second, store.materialize(1, pool)));
+		// the payloads are the pool's, not copies.
+		assertSame(first.getSharedLinks().get(0), materialized.getSharedLinks().get(0));
+		assertSame(first.getSharedQuickFixes().get(0), materialized.getSharedQuickFixes().get(0));
+	}
+
+	@Test
+	public void testMaterialize() throws IOException {
+		URI uri = URI.createFileURI(new File(folder.getRoot(), "result.bin").getAbsolutePath());
+		Resource resource = new WindupResourceFactory().createResource(uri);
+		resource.getContents().add(WindupFactory.eINSTANCE.createWindupResult());
+		resource.save(null);
+		try (ColumnarIssueStore.Writer writer = new ColumnarIssueStore.Writer(WindupResourceFactory.getIssueStoreLocation(uri))) {
+			writer.add(createStoredHint("rule-1", 10));
+		}
+
+		ResourceSet resourceSet = createResourceSet();
+		WindupResourceFactory.WindupResource loaded = (WindupResourceFactory.WindupResource)resourceSet.getResource(uri, true);
+		WindupResult result = (WindupResult)loaded.getContents().get(0);
+		assertTrue(result.getIssues().isEmpty());
+		assertFalse(loaded.isMaterialized(0));
+
+		Hint hint = (Hint)loaded.getEObject(ColumnarIssueStore.getId(0));
+		assertEquals("rule-1", hint.getRuleId());
+		assertSame(result, hint.eContainer());
+		assertSame(result, hint.getSharedLinks().get(0).eContainer());
+		assertSame(result, hint.getSharedQuickFixes().get(0).eContainer());
+		assertTrue(loaded.isMaterialized(0));
+		assertEquals(1, loaded.getMaterializedCount());
+		assertSame(hint, loaded.getEObject(ColumnarIssueStore.getId(0)));
+
+		// unknown rows are not found, and not looked for in the resource's contents.
+		assertNull(loaded.getEObject(ColumnarIssueStore.getId(1)));
+		assertEquals(1, result.getIssues().size());
+	}
+
+	@Test
+	public void testRowIds() {
+		assertEquals(42, ColumnarIssueStore.getRow(ColumnarIssueStore.getId(42)));
+		assertEquals(-1, ColumnarIssueStore.getRow("42"));
+		assertEquals(-1, ColumnarIssueStore.getRow(ColumnarIssueStore.ROW_ID_PREFIX + "x"));
+		assertEquals(-1, ColumnarIssueStore.getRow(null));
+	}
+
+	@Test
+	public void testOpenAndDelete() throws IOException {
+		File directory = new File(folder.getRoot(), "store");
+		assertNull(ColumnarIssueStore.open(directory));
+		try (ColumnarIssueStore.Writer writer = new ColumnarIssueStore.Writer(directory)) {
+			writer.add(createStoredHint("rule-1", 10));
+		}
+		assertTrue(ColumnarIssueStore.delete(directory));
+		assertFalse(directory.exists());
+		assertNull(ColumnarIssueStore.open(directory));
+	}
+
+	/**
+	 * Creates a hint with each of the columns of the store set.
+	 */
+	private Hint createStoredHint(String ruleId, int line) {
+		Hint hint = createHint(ruleId, line, "import javax.ejb.Stateless;");
+		hint.setColumn(4);
+		hint.setLength(12);
+		hint.setEffort(3);
+		hint.setSourceSnippet("import javax.ejb.Stateless;");
+		hint.getSharedLinks().add(pool.getLink("Documentation", "http://example.com/" + ruleId));
+		hint.getSharedQuickFixes().add(pool.getQuickFix("Replace", "REPLACE", "javax.ejb", "jakarta.ejb", null));
+		return hint;
+	}
+}
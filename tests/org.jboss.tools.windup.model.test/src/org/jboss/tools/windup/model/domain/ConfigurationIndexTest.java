@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupModel;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link ConfigurationIndex} follows the configurations of the model as they change.
+ */
+public class ConfigurationIndexTest {
+
+	private WindupModel model;
+	private ConfigurationElement first;
+	private ConfigurationElement second;
+	private ConfigurationIndex index;
+
+	@Before
+	public void setUp() {
+		model = WindupFactory.eINSTANCE.createWindupModel();
+		first = createConfiguration("first");
+		second = createConfiguration("second");
+		index = new ConfigurationIndex(model);
+	}
+
+	@Test
+	public void testFind() {
+		assertSame(first, index.find("first"));
+		assertSame(second, index.find("second"));
+		assertNull(index.find("third"));
+	}
+
+	@Test
+	public void testRename() {
+		first.setName("renamed");
+		assertNull(index.find("first"));
+		assertSame(first, index.find("renamed"));
+	}
+
+	@Test
+	public void testRecent() {
+		// no configuration has run, the first one indexed is the most recent.
+		assertSame(first, index.getRecent());
+		second.setLastRun(1);
+		assertSame(second, index.getRecent());
+		first.setLastRun(2);
+		assertSame(first, index.getRecent());
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		ConfigurationElement third = createConfiguration("third");
+		third.setLastRun(1);
+		assertSame(third, index.find("third"));
+		assertSame(third, index.getRecent());
+		model.getConfigurationElements().remove(third);
+		assertNull(index.find("third"));
+		assertSame(first, index.getRecent());
+		// removed configurations are no longer followed.
+		third.setName("first");
+		assertSame(first, index.find("first"));
+	}
+
+	private ConfigurationElement createConfiguration(String name) {
+		ConfigurationElement configuration = WindupFactory.eINSTANCE.createConfigurationElement();
+		configuration.setName(name);
+		model.getConfigurationElements().add(configuration);
+		return configuration;
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import static org.jboss.tools.windup.model.test.ModelFixture.createHint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jboss.tools.windup.windup.Hint;
+import org.junit.Test;
+
+/**
+ * Tests the matching of the issues of two runs by the {@link IssueDeltaService}.
+ */
+public class IssueDeltaServiceTest {
+
+	private final IssueDeltaService deltaService = new IssueDeltaService();
+
+	@Test
+	public void testUnchanged() {
+		Hint previous = createHint("rule-1", 10, "import javax.ejb.Stateless;");
+		Hint current = createHint("rule-1", 10, "import javax.ejb.Stateless;");
+		IssueDelta delta = deltaService.compute(Collections.singletonList(previous), Collections.singletonList(current));
+		assertSame(current, delta.getUnchanged().get(previous));
+		assertFalse(delta.hasChanges());
+	}
+
+	@Test
+	public void testMoved() {
+		Hint previous = createHint("rule-1", 10, "import javax.ejb.Stateless;");
+		// reformatted, and moved down by a few lines.
+		Hint current = createHint("rule-1", 14, "  import  javax.ejb.Stateless; ");
+		IssueDelta delta = deltaService.compute(Collections.singletonList(previous), Collections.singletonList(current));
+		assertSame(current, delta.getMoved().get(previous));
+		assertTrue(delta.getAdded().isEmpty());
+		assertTrue(delta.getRemoved().isEmpty());
+		assertTrue(delta.hasChanges());
+	}
+
+	@Test
+	public void testClosestMatch() {
+		Hint first = createHint("rule-1", 10, "@Stateless");
+		Hint second = createHint("rule-1", 50, "@Stateless");
+		Hint third = createHint("rule-1", 90, "@Stateless");
+		Hint moved = createHint("rule-1", 55, "@Stateless");
+		IssueDelta delta = deltaService.compute(Arrays.asList(first, second, third), Arrays.asList(moved));
+		assertSame(moved, delta.getMoved().get(second));
+		assertEquals(Arrays.asList(first, third), delta.getRemoved());
+	}
+
+	@Test
+	public void testMovedTooFar() {
+		Hint previous = createHint("rule-1", 10, "@Stateless");
+		Hint current = createHint("rule-1", 500, "@Stateless");
+		IssueDelta delta = deltaService.compute(Collections.singletonList(previous), Collections.singletonList(current));
+		assertTrue(delta.getMoved().isEmpty());
+		assertEquals(Collections.singletonList(current), delta.getAdded());
+		assertEquals(Collections.singletonList(previous), delta.getRemoved());
+	}
+
+	@Test
+	public void testAddedAndRemoved() {
+		Hint unchanged = createHint("rule-1", 10, "@Stateless");
+		Hint removed = createHint("rule-2", 20, "@Remote");
+		Hint unchangedCurrent = createHint("rule-1", 10, "@Stateless");
+		Hint added = createHint("rule-3", 30, "@Local");
+		IssueDelta delta = deltaService.compute(Arrays.asList(unchanged, removed), Arrays.asList(unchangedCurrent, added));
+		assertSame(unchangedCurrent, delta.getUnchanged().get(unchanged));
+		assertEquals(Collections.singletonList(added), delta.getAdded());
+		assertEquals(Collections.singletonList(removed), delta.getRemoved());
+	}
+
+	@Test
+	public void testDuplicates() {
+		Hint first = createHint("rule-1", 10, "@Stateless");
+		Hint second = createHint("rule-1", 10, "@Stateless");
+		Hint current = createHint("rule-1", 10, "@Stateless");
+		IssueDelta delta = deltaService.compute(Arrays.asList(first, second), Collections.singletonList(current));
+		assertEquals(1, delta.getUnchanged().size());
+		assertEquals(1, delta.getRemoved().size());
+	}
+
+	@Test
+	public void testNormalize() {
+		assertEquals("a b c", IssueDeltaService.normalize("  a \t b\n c  "));
+		assertEquals("", IssueDeltaService.normalize(null));
+	}
+}
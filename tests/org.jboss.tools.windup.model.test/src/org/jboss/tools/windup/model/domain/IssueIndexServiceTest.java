@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import static org.jboss.tools.windup.model.test.ModelFixture.createHint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.jboss.tools.windup.model.domain.IssueIndexService.State;
+import org.jboss.tools.windup.model.util.PayloadPool;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupModel;
+import org.jboss.tools.windup.windup.WindupResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Tests the {@link IssueIndexService}, and the {@link IssueQuery}s answered from its indexes.
+ *
+ * The issues have no path, so that they are indexed without looking up their workspace file.
+ */
+public class IssueIndexServiceTest {
+
+	private IssueIndexService indexService;
+	private ConfigurationElement first;
+	private ConfigurationElement second;
+	private Hint fixable;
+	private Hint optional;
+	private Hint other;
+
+	@Before
+	public void setUp() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		Resource resource = new ResourceImpl(URI.createURI("windup.bin"));
+		resourceSet.getResources().add(resource);
+		indexService = new IssueIndexService();
+		indexService.attach(resourceSet);
+
+		WindupModel model = WindupFactory.eINSTANCE.createWindupModel();
+		resource.getContents().add(model);
+		fixable = createHint("rule-1");
+		optional = createHint("rule-2");
+		optional.setSeverity("OPTIONAL");
+		other = createHint("rule-1");
+		first = createConfiguration(model, fixable, optional);
+		second = createConfiguration(model, other);
+		PayloadPool pool = new PayloadPool(getResult(first));
+		fixable.getSharedQuickFixes().add(pool.getQuickFix("Replace", "REPLACE", "javax.ejb", "jakarta.ejb", null));
+		pool.attach();
+	}
+
+	@Test
+	public void testQuery() {
+		assertEquals(Sets.newHashSet(fixable, other), Sets.newHashSet(indexService.query().rule("rule-1").list()));
+		assertEquals(Collections.singletonList(fixable), indexService.query().rule("rule-1").configuration(first).list());
+		assertEquals(Collections.singletonList(other), indexService.query().rule("rule-1").configuration(second).list());
+		assertEquals(Collections.singletonList(optional), indexService.query().severity("OPTIONAL").list());
+		assertEquals(Collections.singletonList(fixable), indexService.query().fixable().list());
+		assertEquals(3, indexService.query().state(State.ACTIVE).count());
+		assertFalse(indexService.query().rule("rule-3").exists());
+	}
+
+	@Test
+	public void testReindex() {
+		fixable.setFixed(true);
+		assertEquals(Collections.singletonList(fixable), indexService.query().state(State.FIXED).list());
+		assertFalse(indexService.query().fixable().exists());
+		optional.setStale(true);
+		assertEquals(Collections.singletonList(optional), indexService.query().state(State.STALE).list());
+		// deleted issues are deleted, whatever their other attributes.
+		optional.setDeleted(true);
+		assertEquals(Collections.singletonList(optional), indexService.query().state(State.DELETED).list());
+		assertFalse(indexService.query().state(State.STALE).exists());
+		other.setRuleId("rule-3");
+		assertEquals(Collections.singletonList(other), indexService.query().rule("rule-3").list());
+
+		fixable.setFixed(false);
+		assertTrue(indexService.query().fixable().exists());
+		fixable.getSharedQuickFixes().clear();
+		assertFalse(indexService.query().fixable().exists());
+	}
+
+	@Test
+	public void testRemove() {
+		getResult(first).getIssues().remove(optional);
+		assertFalse(indexService.query().severity("OPTIONAL").exists());
+		second.getInputs().clear();
+		assertEquals(Collections.singletonList(fixable), indexService.query().rule("rule-1").list());
+	}
+
+	@Test
+	public void testHistory() {
+		// the issues of archived runs are not returned.
+		Input input = second.getInputs().get(0);
+		Hint current = createHint("rule-1");
+		WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
+		result.getIssues().add(current);
+		input.getHistory().add(input.getWindupResult());
+		input.setWindupResult(result);
+		assertEquals(Sets.newHashSet(fixable, current), Sets.newHashSet(indexService.query().rule("rule-1").list()));
+	}
+
+	@Test
+	public void testDetach() {
+		indexService.detach(getResult(first).eResource().getResourceSet());
+		assertFalse(indexService.query().rule("rule-1").exists());
+	}
+
+	private static WindupResult getResult(ConfigurationElement configuration) {
+		return configuration.getInputs().get(0).getWindupResult();
+	}
+
+	private static ConfigurationElement createConfiguration(WindupModel model, Hint... hints) {
+		ConfigurationElement configuration = WindupFactory.eINSTANCE.createConfigurationElement();
+		Input input = WindupFactory.eINSTANCE.createInput();
+		WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
+		for (Hint hint : hints) {
+			result.getIssues().add(hint);
+		}
+		input.setWindupResult(result);
+		configuration.getInputs().add(input);
+		model.getConfigurationElements().add(configuration);
+		return configuration;
+	}
+}
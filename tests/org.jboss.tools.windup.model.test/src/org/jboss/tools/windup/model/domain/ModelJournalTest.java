@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import static org.jboss.tools.windup.model.test.ModelFixture.createHint;
+import static org.jboss.tools.windup.model.test.ModelFixture.createResourceSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupResult;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link ModelJournal}, and the replay of its changes onto resources as they get loaded.
+ */
+public class ModelJournalTest {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+	private URI uri;
+
+	@Before
+	public void setUp() throws IOException {
+		file = new File(folder.getRoot(), "windup.journal");
+		uri = URI.createFileURI(new File(folder.newFolder("results"), "result.bin").getAbsolutePath());
+		Resource resource = createResourceSet().createResource(uri);
+		WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
+		for (String id : Arrays.asList("a", "b")) {
+			Hint hint = createHint("rule-" + id, 10, null);
+			hint.setId(id);
+			result.getIssues().add(hint);
+		}
+		resource.getContents().add(result);
+		resource.save(null);
+	}
+
+	@Test
+	public void testRoundTrip() {
+		ModelJournal journal = new ModelJournal(file);
+		Resource resource = load(journal);
+		getHint(resource, "a").setFixed(true);
+		getHint(resource, "b").setStale(true);
+		journal.flush();
+
+		journal = new ModelJournal(file);
+		journal.read();
+		resource = load(journal);
+		assertTrue(getHint(resource, "a").isFixed());
+		assertTrue(getHint(resource, "b").isStale());
+		assertTrue(journal.getReplayedResources().contains(resource));
+	}
+
+	@Test
+	public void testTornEntry() throws IOException {
+		ModelJournal journal = new ModelJournal(file);
+		Resource resource = load(journal);
+		getHint(resource, "a").setFixed(true);
+		getHint(resource, "b").setStale(true);
+		journal.flush();
+		long length = file.length();
+		try (FileOutputStream output = new FileOutputStream(file, true)) {
+			// the header of an entry whose content was never written.
+			output.write(new byte[] {0, 0, 0, 50, 1, 2, 3});
+		}
+
+		journal = new ModelJournal(file);
+		journal.read();
+		resource = load(journal);
+		assertTrue(getHint(resource, "a").isFixed());
+		assertTrue(getHint(resource, "b").isStale());
+		assertEquals(length, file.length());
+	}
+
+	@Test
+	public void testDamagedEntry() throws IOException {
+		ModelJournal journal = new ModelJournal(file);
+		Resource resource = load(journal);
+		getHint(resource, "a").setFixed(true);
+		journal.flush();
+		long length = file.length();
+		getHint(resource, "b").setStale(true);
+		journal.flush();
+		try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+			output.seek(file.length() - 1);
+			int last = output.read();
+			output.seek(file.length() - 1);
+			output.write(last ^ 0xff);
+		}
+
+		journal = new ModelJournal(file);
+		journal.read();
+		resource = load(journal);
+		assertTrue(getHint(resource, "a").isFixed());
+		assertFalse(getHint(resource, "b").isStale());
+		assertEquals(length, file.length());
+	}
+
+	@Test
+	public void testSnapshotCarriesOverChanges() {
+		ModelJournal journal = new ModelJournal(file);
+		Resource resource = load(journal);
+		getHint(resource, "a").setFixed(true);
+		journal.startSnapshot();
+		// recorded while the snapshot is written, so not part of it.
+		getHint(resource, "b").setStale(true);
+		journal.flush();
+		assertFalse(file.exists());
+		journal.finishSnapshot(true);
+
+		journal = new ModelJournal(file);
+		journal.read();
+		resource = load(journal);
+		// the snapshot itself was not written by this test.
+		assertFalse(getHint(resource, "a").isFixed());
+		assertTrue(getHint(resource, "b").isStale());
+	}
+
+	@Test
+	public void testFailedSnapshot() {
+		ModelJournal journal = new ModelJournal(file);
+		Resource resource = load(journal);
+		journal.startSnapshot();
+		getHint(resource, "a").setFixed(true);
+		journal.finishSnapshot(false);
+		assertTrue(journal.isSnapshotRequired());
+	}
+
+	private Resource load(ModelJournal journal) {
+		ResourceSet resourceSet = createResourceSet();
+		resourceSet.eAdapters().add(journal);
+		return resourceSet.getResource(uri, true);
+	}
+
+	private static Hint getHint(Resource resource, String id) {
+		return (Hint)resource.getEObject(id);
+	}
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import static org.jboss.tools.windup.model.test.ModelFixture.createHint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.tools.windup.model.util.PayloadPool;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupResult;
+import org.junit.Test;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+
+/**
+ * Tests the delta encoding of the {@link RunHistory}, and the reconstruction of the runs it encoded.
+ */
+public class RunHistoryTest {
+
+	@Test
+	public void testEncode() {
+		Input input = WindupFactory.eINSTANCE.createInput();
+		WindupResult latest = createResult(3, createHint("rule-1", 10, "a"), createHint("rule-2", 20, "b"), createHint("rule-3", 30, "c"));
+		WindupResult previous = createResult(2, createHint("rule-1", 10, "a"), createHint("rule-2", 20, "b"), createHint("rule-4", 40, "d"));
+		WindupResult oldest = createResult(1, createHint("rule-1", 10, "a"));
+		input.setWindupResult(latest);
+		input.getHistory().add(previous);
+		input.getHistory().add(oldest);
+		Multiset<String> previousKeys = getKeys(previous.getIssues());
+		Multiset<String> oldestKeys = getKeys(oldest.getIssues());
+
+		assertTrue(RunHistory.compact(input, latest, 5).isEmpty());
+		assertEquals(3, previous.getDeltaBase());
+		assertEquals(getKeys(Collections.singletonList(createHint("rule-4", 40, "d"))), getKeys(previous.getIssues()));
+		assertEquals(Collections.singletonList(RunHistory.getKey(latest.getIssues().get(2))), previous.getOmittedIssueKeys());
+		assertTrue(oldest.getIssues().isEmpty());
+		assertEquals(2, oldest.getOmittedIssueKeys().size());
+
+		assertEquals(previousKeys, getKeys(RunHistory.getIssues(previous)));
+		assertEquals(oldestKeys, getKeys(RunHistory.getIssues(oldest)));
+		assertEquals(3, RunHistory.getIssues(latest).size());
+	}
+
+	@Test
+	public void testReencode() {
+		Input input = WindupFactory.eINSTANCE.createInput();
+		WindupResult first = createResult(1, createHint("rule-1", 10, "a"), createHint("rule-2", 20, "b"));
+		WindupResult second = createResult(2, createHint("rule-2", 20, "b"), createHint("rule-3", 30, "c"));
+		input.setWindupResult(second);
+		input.getHistory().add(first);
+		Multiset<String> firstKeys = getKeys(first.getIssues());
+		Multiset<String> secondKeys = getKeys(second.getIssues());
+		RunHistory.compact(input, second, 5);
+
+		// a third run archives the second, which the first is encoded against.
+		WindupResult third = createResult(3, createHint("rule-3", 30, "c"));
+		input.setWindupResult(third);
+		input.getHistory().add(0, second);
+		assertTrue(RunHistory.compact(input, third, 5).isEmpty());
+		assertEquals(3, first.getDeltaBase());
+		assertEquals(3, second.getDeltaBase());
+		assertEquals(firstKeys, getKeys(RunHistory.getIssues(first)));
+		assertEquals(secondKeys, getKeys(RunHistory.getIssues(second)));
+	}
+
+	@Test
+	public void testMovedIssue() {
+		Input input = WindupFactory.eINSTANCE.createInput();
+		Hint moved = createHint("rule-1", 12, "a");
+		WindupResult latest = createResult(2, moved);
+		WindupResult previous = createResult(1, createHint("rule-1", 10, "a"));
+		input.setWindupResult(latest);
+		input.getHistory().add(previous);
+		RunHistory.compact(input, latest, 5);
+
+		// the issue is shared with the latest run, although its line moved, and keeps the line of the previous run.
+		assertTrue(previous.getIssues().isEmpty());
+		assertTrue(previous.getOmittedIssueKeys().isEmpty());
+		assertEquals(1, previous.getSharedIssueStates().size());
+		List<Issue> issues = RunHistory.getIssues(previous);
+		assertEquals(1, issues.size());
+		assertNotSame(moved, issues.get(0));
+		assertEquals(10, ((Hint)issues.get(0)).getLineNumber());
+		assertEquals(12, moved.getLineNumber());
+	}
+
+	@Test
+	public void testSharedIssueState() {
+		Input input = WindupFactory.eINSTANCE.createInput();
+		Hint current = createHint("rule-1", 10, "a");
+		WindupResult latest = createResult(3, current, createHint("rule-2", 20, "b"));
+		Hint stale = createHint("rule-2", 20, "b");
+		stale.setStale(true);
+		WindupResult previous = createResult(2, createHint("rule-1", 10, "a"), stale);
+		input.setWindupResult(latest);
+		input.getHistory().add(previous);
+		RunHistory.compact(input, latest, 5);
+		// only the state that differs from the latest run is kept.
+		assertEquals(1, previous.getSharedIssueStates().size());
+
+		// the latest run's issue is re-anchored and fixed after the compaction.
+		current.setOriginalLineNumber(10);
+		current.setLineNumber(15);
+		current.setFixed(true);
+		List<Issue> issues = RunHistory.getIssues(previous);
+		Hint first = (Hint)issues.get(0);
+		assertEquals(10, first.getLineNumber());
+		assertEquals(0, first.getOriginalLineNumber());
+		assertFalse(first.isFixed());
+		assertTrue(((Hint)issues.get(1)).isStale());
+		assertFalse(latest.getIssues().get(1).isStale());
+	}
+
+	@Test
+	public void testRetention() {
+		Input input = WindupFactory.eINSTANCE.createInput();
+		WindupResult latest = createResult(3, createHint("rule-1", 10, "a"));
+		WindupResult previous = createResult(2, createHint("rule-1", 10, "a"));
+		WindupResult oldest = createResult(1, createHint("rule-2", 20, "b"));
+		input.setWindupResult(latest);
+		input.getHistory().add(previous);
+		input.getHistory().add(oldest);
+
+		assertEquals(Collections.singletonList(oldest), RunHistory.compact(input, latest, 1));
+		assertEquals(Collections.singletonList(previous), input.getHistory());
+	}
+
+	@Test
+	public void testMissingBase() {
+		Input input = WindupFactory.eINSTANCE.createInput();
+		WindupResult latest = createResult(3, createHint("rule-1", 10, "a"));
+		WindupResult orphan = createResult(1, createHint("rule-2", 20, "b"));
+		orphan.setDeltaBase(2);
+		input.setWindupResult(latest);
+		input.getHistory().add(orphan);
+
+		assertNull(RunHistory.getIssues(orphan));
+		assertEquals(Collections.singletonList(orphan), RunHistory.compact(input, latest, 5));
+		assertTrue(input.getHistory().isEmpty());
+	}
+
+	@Test
+	public void testPayloads() {
+		Input input = WindupFactory.eINSTANCE.createInput();
+		WindupResult first = createResult(1, createHint("rule-1", 10, "a"), createHint("rule-2", 20, "b"));
+		WindupResult second = createResult(2, createHint("rule-2", 20, "b"), createHint("rule-3", 30, "c"));
+		input.setWindupResult(second);
+		input.getHistory().add(first);
+		RunHistory.compact(input, second, 5);
+
+		// the first run gets a copy of the second run's rule-2 issue.
+		WindupResult third = createResult(3, createHint("rule-3", 30, "c"));
+		input.setWindupResult(third);
+		input.getHistory().add(0, second);
+		RunHistory.compact(input, third, 5);
+
+		// runs only hold the payloads of their own issues, each rule has a link of its own.
+		for (WindupResult run : Arrays.asList(first, second)) {
+			for (Issue issue : run.getIssues()) {
+				assertSame(run, issue.getSharedLinks().get(0).eContainer());
+			}
+			assertEquals(run.getIssues().size(), run.getLinks().size());
+		}
+	}
+
+	private static Multiset<String> getKeys(List<? extends Issue> issues) {
+		Multiset<String> keys = HashMultiset.create();
+		issues.forEach(issue -> keys.add(RunHistory.getKey(issue)));
+		return keys;
+	}
+
+	private static WindupResult createResult(long lastRun, Hint... hints) {
+		WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
+		result.setLastRun(lastRun);
+		PayloadPool pool = new PayloadPool(result);
+		for (Hint hint : hints) {
+			hint.getSharedLinks().add(pool.getLink("Documentation", "http://example.com/" + hint.getRuleId()));
+			result.getIssues().add(hint);
+		}
+		pool.attach();
+		return result;
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.domain;
+
+import static org.jboss.tools.windup.model.test.ModelFixture.createLegacyHint;
+import static org.jboss.tools.windup.model.test.ModelFixture.createResourceSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupResult;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the loading of results persisted by previous versions into the resources of the {@link WindupResourceFactory}.
+ */
+public class WindupResourceFactoryTest {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	private URI uri;
+
+	@Before
+	public void setUp() {
+		uri = URI.createFileURI(new File(folder.getRoot(), "result.bin").getAbsolutePath());
+	}
+
+	@Test
+	public void testLegacyIds() throws IOException {
+		// results saved before issues had ids.
+		save(createLegacyHint("rule-1"), createLegacyHint("rule-2"));
+
+		Resource resource = load();
+		List<Issue> issues = ((WindupResult)resource.getContents().get(0)).getIssues();
+		for (int i = 0; i < issues.size(); i++) {
+			Issue issue = issues.get(i);
+			assertEquals(String.valueOf(i), issue.getId());
+			assertSame(issue, resource.getEObject(issue.getId()));
+			assertSame(issue, resource.getResourceSet().getEObject(EcoreUtil.getURI(issue), false));
+		}
+		// the ids don't change as long as the result exists.
+		assertEquals("rule-2", ((Issue)load().getEObject("1")).getRuleId());
+	}
+
+	@Test
+	public void testIds() throws IOException {
+		Hint hint = createLegacyHint("rule-1");
+		hint.setId("rule-1-id");
+		save(hint, createLegacyHint("rule-2"));
+
+		Resource resource = load();
+		assertEquals("rule-1", ((Issue)resource.getEObject("rule-1-id")).getRuleId());
+		assertEquals("rule-2", ((Issue)resource.getEObject("1")).getRuleId());
+	}
+
+	@Test
+	public void testLegacyPayloads() throws IOException {
+		// results saved before payloads were shared, each issue contains its own links.
+		save(createLegacyHint("rule-1"), createLegacyHint("rule-2"));
+
+		WindupResult result = (WindupResult)load().getContents().get(0);
+		assertEquals(1, result.getLinks().size());
+		Link link = result.getLinks().get(0);
+		for (Issue issue : result.getIssues()) {
+			assertTrue(issue.getLinks().isEmpty());
+			assertSame(link, issue.getSharedLinks().get(0));
+		}
+	}
+
+	private void save(Hint... hints) throws IOException {
+		Resource resource = createResourceSet().createResource(uri);
+		WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
+		for (Hint hint : hints) {
+			result.getIssues().add(hint);
+		}
+		resource.getContents().add(result);
+		resource.save(null);
+	}
+
+	private Resource load() {
+		return createResourceSet().getResource(uri, true);
+	}
+}
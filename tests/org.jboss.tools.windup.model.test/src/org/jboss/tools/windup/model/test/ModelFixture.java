@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.test;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.jboss.tools.windup.model.domain.WindupResourceFactory;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.QuickFix;
+import org.jboss.tools.windup.windup.WindupFactory;
+
+/**
+ * Creates the model elements shared by the model tests.
+ *
+ * The strings held by the created issues are distinct instances, as they are when read from a report,
+ * so that tests can tell whether they get shared.
+ */
+public final class ModelFixture {
+
+	/**
+	 * The file of the issues created with a line.
+	 */
+	public static final String PATH = "/project/src/A.java";
+
+	private ModelFixture() {
+	}
+
+	/**
+	 * Returns a resource set loading results with the {@link WindupResourceFactory}.
+	 */
+	public static ResourceSet createResourceSet() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("bin", new WindupResourceFactory());
+		return resourceSet;
+	}
+
+	/**
+	 * Creates a hint of the specified rule, with no file.
+	 */
+	public static Hint createHint(String ruleId) {
+		Hint hint = WindupFactory.eINSTANCE.createHint();
+		hint.setRuleId(new String(ruleId));
+		return hint;
+	}
+
+	/**
+	 * Creates a hint of the specified rule, found at the specified line of {@link #PATH}.
+	 */
+	public static Hint createHint(String ruleId, int line, String source) {
+		Hint hint = createHint(ruleId);
+		hint.setFileAbsolutePath(new String(PATH));
+		hint.setLineNumber(line);
+		hint.setOriginalLineSource(source);
+		hint.setSeverity(new String("MANDATORY"));
+		hint.setTitle("Title of " + ruleId);
+		hint.setHint("Hint of " + ruleId);
+		return hint;
+	}
+
+	/**
+	 * Creates a hint containing its own link and quick fix, as persisted by previous versions.
+	 */
+	public static Hint createLegacyHint(String ruleId) {
+		Hint hint = createHint(ruleId);
+		Link link = WindupFactory.eINSTANCE.createLink();
+		link.setDescription("Documentation");
+		link.setUrl(new String("http://example.com"));
+		hint.getLinks().add(link);
+		QuickFix quickFix = WindupFactory.eINSTANCE.createQuickFix();
+		quickFix.setName("Replace");
+		quickFix.setQuickFixType("REPLACE");
+		quickFix.setSearchString("javax.ejb");
+		quickFix.setReplacementString("jakarta.ejb");
+		hint.getQuickFixes().add(quickFix);
+		return hint;
+	}
+}
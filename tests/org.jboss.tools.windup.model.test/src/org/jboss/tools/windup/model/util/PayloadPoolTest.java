@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.util;
+
+import static org.jboss.tools.windup.model.test.ModelFixture.createHint;
+import static org.jboss.tools.windup.model.test.ModelFixture.createLegacyHint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.QuickFix;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupResult;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the sharing of the links and quick fixes of a result's issues by the {@link PayloadPool}.
+ */
+public class PayloadPoolTest {
+
+	private WindupResult result;
+	private PayloadPool pool;
+
+	@Before
+	public void setUp() {
+		result = WindupFactory.eINSTANCE.createWindupResult();
+		pool = new PayloadPool(result);
+	}
+
+	@Test
+	public void testGetPayloads() {
+		Link link = pool.getLink("Documentation", "http://example.com");
+		assertSame(link, pool.getLink(new String("Documentation"), new String("http://example.com")));
+		assertNotSame(link, pool.getLink("Documentation", "http://example.org"));
+		QuickFix quickFix = pool.getQuickFix("Replace", "REPLACE", "javax.ejb", "jakarta.ejb", null);
+		assertSame(quickFix, pool.getQuickFix("Replace", "REPLACE", "javax.ejb", "jakarta.ejb", null));
+
+		// payloads are only added to the result once attached.
+		assertTrue(result.getLinks().isEmpty());
+		pool.attach();
+		assertEquals(2, result.getLinks().size());
+		assertSame(result, link.eContainer());
+		assertSame(result, quickFix.eContainer());
+
+		// a pool over the same result finds the attached payloads.
+		assertSame(link, new PayloadPool(result).getLink("Documentation", "http://example.com"));
+	}
+
+	@Test
+	public void testShareContainedPayloads() {
+		Hint first = createLegacyHint("rule-1");
+		Hint second = createLegacyHint("rule-1");
+		result.getIssues().add(first);
+		result.getIssues().add(second);
+		pool.share(first);
+		pool.share(second);
+		pool.attach();
+
+		assertTrue(first.getLinks().isEmpty());
+		assertTrue(first.getQuickFixes().isEmpty());
+		assertEquals(1, result.getLinks().size());
+		assertEquals(1, result.getQuickFixes().size());
+		assertEquals(result.getLinks(), first.getSharedLinks());
+		assertEquals(result.getLinks(), second.getSharedLinks());
+		assertEquals(result.getQuickFixes(), first.getSharedQuickFixes());
+		assertEquals(result.getQuickFixes(), second.getSharedQuickFixes());
+		assertEquals("http://example.com", first.getSharedLinks().get(0).getUrl());
+		assertNull(first.getSharedQuickFixes().get(0).getNewLine());
+	}
+
+	@Test
+	public void testShareForeignPayloads() {
+		WindupResult other = WindupFactory.eINSTANCE.createWindupResult();
+		PayloadPool otherPool = new PayloadPool(other);
+		Hint hint = createHint("rule-1");
+		Link foreign = otherPool.getLink("Documentation", "http://example.com");
+		hint.getSharedLinks().add(foreign);
+		otherPool.attach();
+
+		Link link = pool.getLink("Documentation", "http://example.com");
+		result.getIssues().add(hint);
+		pool.share(hint);
+		assertEquals(Collections.singletonList(link), hint.getSharedLinks());
+		assertSame(other, foreign.eContainer());
+	}
+
+	@Test
+	public void testPrune() {
+		Hint hint = createHint("rule-1");
+		hint.getSharedLinks().add(pool.getLink("Documentation", "http://example.com"));
+		result.getIssues().add(hint);
+		Link unused = pool.getLink("Documentation", "http://example.org");
+		pool.getQuickFix("Replace", "REPLACE", "javax.ejb", "jakarta.ejb", null);
+		pool.prune();
+
+		assertEquals(hint.getSharedLinks(), result.getLinks());
+		assertTrue(result.getQuickFixes().isEmpty());
+		// a pruned payload is created anew when asked for again.
+		assertNotSame(unused, pool.getLink("Documentation", "http://example.org"));
+	}
+}
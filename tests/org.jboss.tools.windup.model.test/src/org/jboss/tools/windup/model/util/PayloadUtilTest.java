@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.util;
+
+import static org.jboss.tools.windup.model.test.ModelFixture.PATH;
+import static org.jboss.tools.windup.model.test.ModelFixture.createHint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.jboss.tools.windup.windup.Hint;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the interning of the strings held by issues by the {@link PayloadUtil}.
+ */
+public class PayloadUtilTest {
+
+	@Test
+	public void testIntern() {
+		String value = PayloadUtil.intern(new String("javax.ejb"));
+		assertSame(value, PayloadUtil.intern(new String("javax.ejb")));
+		assertEquals("javax.ejb", value);
+		assertNull(PayloadUtil.intern(null));
+	}
+
+	@Test
+	public void testShare() {
+		Hint first = createHint("rule-1", 10, "import javax.ejb.Stateless;");
+		Hint second = createHint("rule-1", 10, "import javax.ejb.Stateless;");
+		List<Notification> notifications = Lists.newArrayList();
+		second.eAdapters().add(new AdapterImpl() {
+			@Override
+			public void notifyChanged(Notification notification) {
+				notifications.add(notification);
+			}
+		});
+		PayloadUtil.share(first);
+		PayloadUtil.share(second);
+
+		assertSame(first.getFileAbsolutePath(), second.getFileAbsolutePath());
+		assertSame(first.getRuleId(), second.getRuleId());
+		assertSame(first.getSeverity(), second.getSeverity());
+		assertSame(first.getTitle(), second.getTitle());
+		assertSame(first.getHint(), second.getHint());
+		// the content of the issue doesn't change.
+		assertEquals(PATH, second.getFileAbsolutePath());
+		assertTrue(notifications.isEmpty());
+	}
+}
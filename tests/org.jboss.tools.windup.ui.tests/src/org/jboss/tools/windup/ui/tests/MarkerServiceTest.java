@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.ui.tests;
+
+import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_CLASSIFICATION_MARKER_ID;
+import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_HINT_MARKER_ID;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Hint;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the markers the MarkerService restores for issues the user acted upon.
+ */
+public class MarkerServiceTest extends WindupUiTest {
+
+	@Test
+	public void testStaleMarkerRestored() throws CoreException {
+		ConfigurationElement configuration = super.createRunConfiguration();
+		runWindup(configuration);
+		Hint hint = getFirstHint(configuration);
+		IMarker marker = markerService.findMarker(hint);
+		markerService.createStaleMarker(marker, hint);
+
+		restart(configuration);
+		marker = markerService.findMarker(hint);
+		Assert.assertNotNull(marker);
+		Assert.assertEquals(IMarker.SEVERITY_INFO, marker.getAttribute(IMarker.SEVERITY, -1));
+	}
+
+	@Test
+	public void testDeletedMarkerNotRestored() throws CoreException {
+		ConfigurationElement configuration = super.createRunConfiguration();
+		runWindup(configuration);
+		Hint hint = getFirstHint(configuration);
+		markerService.deleteMarker(markerService.findMarker(hint));
+		Assert.assertTrue(hint.isDeleted());
+
+		restart(configuration);
+		Assert.assertNull(markerService.findMarker(hint));
+	}
+
+	private static Hint getFirstHint(ConfigurationElement configuration) {
+		return configuration.getInputs().get(0).getWindupResult().getIssues().stream().
+				filter(issue -> issue instanceof Hint).map(issue -> (Hint)issue).findFirst().get();
+	}
+
+	/**
+	 * Markers are not persisted, they are restored from the model on restart.
+	 */
+	private void restart(ConfigurationElement configuration) throws CoreException {
+		IProject project = projectProvider.getProject();
+		project.deleteMarkers(WINDUP_HINT_MARKER_ID, true, IResource.DEPTH_INFINITE);
+		project.deleteMarkers(WINDUP_CLASSIFICATION_MARKER_ID, true, IResource.DEPTH_INFINITE);
+		markerService.reconcileWindupMarkers(configuration, new NullProgressMonitor());
+	}
+}
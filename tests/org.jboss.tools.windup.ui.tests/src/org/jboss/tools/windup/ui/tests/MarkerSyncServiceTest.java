@@ -10,16 +10,15 @@
  ******************************************************************************/
 package org.jboss.tools.windup.ui.tests;
 
-import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
-import org.jboss.tools.windup.model.domain.ModelService;
+import org.eclipse.core.runtime.jobs.Job;
+import org.jboss.tools.windup.model.domain.WindupConstants;
 import org.jboss.tools.windup.model.util.DocumentUtils;
 import org.jboss.tools.windup.ui.internal.explorer.QuickFixUtil;
-import org.jboss.tools.windup.ui.internal.services.MarkerService;
 import org.jboss.tools.windup.windup.ConfigurationElement;
 import org.jboss.tools.windup.windup.Hint;
 import org.jboss.tools.windup.windup.QuickFix;
@@ -42,23 +41,24 @@ public class MarkerSyncServiceTest extends WindupUiTest {
 					return issue instanceof Hint;
 				}).map(issue -> (Hint)issue).
 				filter(issue -> { 
-					if (!issue.getQuickFixes().isEmpty()) {
-						QuickFix fix = issue.getQuickFixes().get(0);
+					if (!issue.getSharedQuickFixes().isEmpty()) {
+						QuickFix fix = issue.getSharedQuickFixes().get(0);
 						if (QuickfixType.REPLACE.toString().equals(fix.getQuickFixType())) {
 							return true;
 						}
 					}
 					return false;
 				}).findFirst().get();
-		IFile file = ModelService.getIssueResource(hint);
-		QuickFix quickFix = hint.getQuickFixes().get(0);
-		IMarker marker = MarkerService.findMarker(file, hint, modelService);
+		QuickFix quickFix = hint.getSharedQuickFixes().get(0);
+		IMarker marker = markerService.findMarker(hint);
 		IResource original = marker.getResource();
 		IResource newResource = QuickFixUtil.getQuickFixedResource(original, quickFix, hint);
 		DocumentUtils.replace(original, newResource);
 		try {
 			ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
-		} catch (CoreException e) {
+			// stale issues are detected in the background.
+			Job.getJobManager().join(WindupConstants.DETECTING_STALE_ISSUES, null);
+		} catch (CoreException | InterruptedException e) {
 			e.printStackTrace();
 		}
 		Assert.assertTrue(hint.isStale());
@@ -110,7 +110,7 @@ public class WindupUiTest extends WindupTest {
 	
 	private void updateMarkers(ConfigurationElement configuration) {
 		try {
-			markerService.createWindupMarkers(configuration, new NullProgressMonitor());
+			markerService.reconcileWindupMarkers(configuration, new NullProgressMonitor());
 			broker.send(MARKERS_CHANGED, true);
 		} catch (CoreException e) {
 			e.printStackTrace();
@@ -18,6 +18,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
 	WindupPerspectiveTests.class,
 	MarkerSyncServiceTest.class,
+	MarkerServiceTest.class,
 	IssueExplorerTests.class,
 	WindupExecutionTest.class,
 	WindupLauncherTest.class